@@ -242,6 +242,26 @@ public class Utils {
         return season;
     }
 
+    /**
+     * Gets the number of {@link Week}s in the regular season of a given year.
+     * The regular season was extended from 17 to 18 weeks in 2021.
+     * @param seasonYear the year of the season
+     * @return the number of regular season {@link Week}s in the season
+     */
+    public static int getRegularSeasonWeeks(int seasonYear) {
+        return seasonYear >= 2021 ? 18 : 17;
+    }
+
+    /**
+     * Gets the number of wild card teams which make the playoffs from each conference in a given year.
+     * The playoffs were expanded from 2 to 3 wild cards per conference in 2020.
+     * @param seasonYear the year of the season
+     * @return the number of wild cards per conference in the season
+     */
+    public static int getWildCardCount(int seasonYear) {
+        return seasonYear >= 2020 ? 3 : 2;
+    }
+
     /**
      * Rounds a given {@code double} value to a certain decimal.
      * @param value the {@code double} value to be rounded
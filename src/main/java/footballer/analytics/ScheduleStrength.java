@@ -0,0 +1,252 @@
+package footballer.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import footballer.ranking.RankingSystem;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import footballer.structure.Week;
+
+/**
+ * Computes the strength of schedule and strength of victory of every {@link Team} at the end of every {@link Week} of a {@link Season}.
+ *
+ * <h2>Definitions</h2>
+ * <ul>
+ *     <li>Strength of schedule (SOS) is the combined winning percentage of every opponent a team has played, once per game (ties count as half a win).</li>
+ *     <li>Strength of victory (SOV) is the combined winning percentage of every opponent a team has beaten, once per win.</li>
+ *     <li>
+ *         The weighted versions use the {@link footballer.ranking.Rank}s of a {@link RankingSystem} instead of winning percentages,
+ *         as the average rank value of the opponents at the end of the week.
+ *     </li>
+ * </ul>
+ * Only played {@link Game}s count, and every value is as of the end of its week, so opponents' records and ranks are also as of that week.
+ *
+ * Everything is computed in a single pass over the weeks, keeping running team-by-team tables of games and wins,
+ * so each week costs {@code teams * teams} rather than a {@link footballer.structure.Record} lookup per opponent per game.
+ * These tables are kept here rather than read from {@link Season#getMatchups()}, which only holds the results of every game added so far,
+ * while each week's values need the results up to the end of that week.
+ */
+public class ScheduleStrength {
+    private final List<Team> teams;
+    private final List<Integer> weekNumbers = new ArrayList<>();
+
+    /** The values of each week, in the order of {@link #weekNumbers}, each indexed by {@link Team#getId()}. */
+    private final List<double[]> sos = new ArrayList<>();
+    private final List<double[]> sov = new ArrayList<>();
+    private final List<double[]> weightedSos = new ArrayList<>();
+    private final List<double[]> weightedSov = new ArrayList<>();
+
+    /**
+     * Computes the raw strength of schedule and strength of victory of a {@link Season}, without weighted values.
+     * @param season the {@link Season} to compute the values for
+     */
+    public ScheduleStrength(Season season) {
+        this(season, null);
+    }
+
+    /**
+     * Computes the raw and weighted strength of schedule and strength of victory of a {@link Season}.
+     * @param season the {@link Season} to compute the values for
+     * @param rankingSystem the {@link RankingSystem} whose weekly checkpoints weigh the opponents, which must have been applied to {@code season},
+     * or {@code null} to skip the weighted values
+     */
+    public ScheduleStrength(Season season, RankingSystem rankingSystem) {
+        teams = season.getTeams();
+        int n = 0;
+        for (Team team : teams) n = Math.max(n, team.getId() + 1);
+
+        int[] played = new int[n * n];
+        int[] beaten = new int[n * n];
+        int[] points = new int[n];
+        int[] games = new int[n];
+
+        for (Week week : season.getWeeks()) {
+            if (week.isEmpty()) continue;
+
+            for (Game game : week.getGames()) {
+                if (!game.isPlayed()) continue;
+                int home = game.homeTeam.getId();
+                int away = game.awayTeam.getId();
+                played[home * n + away]++;
+                played[away * n + home]++;
+                games[home]++;
+                games[away]++;
+
+                Team winner = game.getWinner();
+                if (winner == null) {
+                    points[home]++;
+                    points[away]++;
+                } else if (winner == game.homeTeam) {
+                    beaten[home * n + away]++;
+                    points[home] += 2;
+                } else {
+                    beaten[away * n + home]++;
+                    points[away] += 2;
+                }
+            }
+
+            double[] ranks = rankingSystem == null ? null : rankingSystem.getLog().getCheckpoint(week.number);
+            double[] weekSos = new double[n];
+            double[] weekSov = new double[n];
+            double[] weekWeightedSos = new double[n];
+            double[] weekWeightedSov = new double[n];
+
+            for (int t = 0; t < n; t++) {
+                long sosPoints = 0, sosGames = 0, sovPoints = 0, sovGames = 0;
+                double sosRanks = 0, sovRanks = 0;
+                int opponents = 0, victories = 0;
+
+                for (int o = 0; o < n; o++) {
+                    int p = played[t * n + o];
+                    if (p == 0) continue;
+                    int b = beaten[t * n + o];
+
+                    sosPoints += (long) p * points[o];
+                    sosGames += (long) p * games[o];
+                    sovPoints += (long) b * points[o];
+                    sovGames += (long) b * games[o];
+
+                    if (ranks != null) {
+                        sosRanks += p * ranks[o];
+                        sovRanks += b * ranks[o];
+                        opponents += p;
+                        victories += b;
+                    }
+                }
+
+                weekSos[t] = sosGames == 0 ? 0 : sosPoints / (2.0 * sosGames);
+                weekSov[t] = sovGames == 0 ? 0 : sovPoints / (2.0 * sovGames);
+                weekWeightedSos[t] = opponents == 0 ? 0 : sosRanks / opponents;
+                weekWeightedSov[t] = victories == 0 ? 0 : sovRanks / victories;
+            }
+
+            weekNumbers.add(week.number);
+            sos.add(weekSos);
+            sov.add(weekSov);
+            weightedSos.add(weekWeightedSos);
+            weightedSov.add(weekWeightedSov);
+        }
+    }
+
+    /**
+     * Gets the {@link Team}s of the season.
+     * @return the {@link Team}s, in the order of {@link Season#getTeams()}
+     */
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    /**
+     * Gets the numbers of the {@link Week}s which have values, which are the weeks with at least one {@link Game}.
+     * @return the week numbers, in order
+     */
+    public List<Integer> getWeekNumbers() {
+        return weekNumbers;
+    }
+
+    /**
+     * Gets a {@link Team}'s strength of schedule at the end of a given {@link Week}.
+     * @param team the {@link Team}
+     * @param weekNum the number of the week
+     * @return the combined winning percentage of the opponents {@code team} has played,
+     * as of the last week with values which is not after {@code weekNum}, or {@code 0} if there is no such week
+     */
+    public double getSos(Team team, int weekNum) {
+        return lookup(sos, team, weekNum);
+    }
+
+    /**
+     * Gets a {@link Team}'s strength of victory at the end of a given {@link Week}.
+     * @param team the {@link Team}
+     * @param weekNum the number of the week
+     * @return the combined winning percentage of the opponents {@code team} has beaten,
+     * as of the last week with values which is not after {@code weekNum}, or {@code 0} if there is no such week
+     */
+    public double getSov(Team team, int weekNum) {
+        return lookup(sov, team, weekNum);
+    }
+
+    /**
+     * Gets a {@link Team}'s rank-weighted strength of schedule at the end of a given {@link Week}.
+     * @param team the {@link Team}
+     * @param weekNum the number of the week
+     * @return the average {@link footballer.ranking.Rank} value of the opponents {@code team} has played,
+     * as of the last week with values which is not after {@code weekNum}, or {@code 0} if there is no such week (or no {@link RankingSystem})
+     */
+    public double getWeightedSos(Team team, int weekNum) {
+        return lookup(weightedSos, team, weekNum);
+    }
+
+    /**
+     * Gets a {@link Team}'s rank-weighted strength of victory at the end of a given {@link Week}.
+     * @param team the {@link Team}
+     * @param weekNum the number of the week
+     * @return the average {@link footballer.ranking.Rank} value of the opponents {@code team} has beaten,
+     * as of the last week with values which is not after {@code weekNum}, or {@code 0} if there is no such week (or no {@link RankingSystem})
+     */
+    public double getWeightedSov(Team team, int weekNum) {
+        return lookup(weightedSov, team, weekNum);
+    }
+
+    /**
+     * Gets the values of every week up to a given {@link Week} for a {@link Team}.
+     * @param values one of {@link #sos}, {@link #sov}, {@link #weightedSos} or {@link #weightedSov}
+     * @param team the {@link Team}
+     * @param upToWeek the number of the last week (inclusive)
+     * @return a new array of the team's value at the end of each week with values (see {@link #getWeekNumbers()}), up to {@code upToWeek}
+     */
+    private double[] series(List<double[]> values, Team team, int upToWeek) {
+        int count = 0;
+        while (count < weekNumbers.size() && weekNumbers.get(count) <= upToWeek) count++;
+        double[] result = new double[count];
+        for (int row = 0; row < count; row++) result[row] = values.get(row)[team.getId()];
+        return result;
+    }
+
+    /**
+     * Gets a {@link Team}'s strength of schedule at the end of every {@link Week} up to a given week.
+     * @param team the {@link Team}
+     * @param upToWeek the number of the last week (inclusive)
+     * @return a new array of the values of {@link #getSos(Team, int)} for each week with values which is not after {@code upToWeek}, in order
+     */
+    public double[] getSosSeries(Team team, int upToWeek) {
+        return series(sos, team, upToWeek);
+    }
+
+    /**
+     * Gets a {@link Team}'s strength of victory at the end of every {@link Week} up to a given week.
+     * @param team the {@link Team}
+     * @param upToWeek the number of the last week (inclusive)
+     * @return a new array of the values of {@link #getSov(Team, int)} for each week with values which is not after {@code upToWeek}, in order
+     */
+    public double[] getSovSeries(Team team, int upToWeek) {
+        return series(sov, team, upToWeek);
+    }
+
+    /**
+     * Gets a {@link Team}'s rank-weighted strength of schedule at the end of every {@link Week} up to a given week.
+     * @param team the {@link Team}
+     * @param upToWeek the number of the last week (inclusive)
+     * @return a new array of the values of {@link #getWeightedSos(Team, int)} for each week with values which is not after {@code upToWeek}, in order
+     */
+    public double[] getWeightedSosSeries(Team team, int upToWeek) {
+        return series(weightedSos, team, upToWeek);
+    }
+
+    /**
+     * Gets a {@link Team}'s rank-weighted strength of victory at the end of every {@link Week} up to a given week.
+     * @param team the {@link Team}
+     * @param upToWeek the number of the last week (inclusive)
+     * @return a new array of the values of {@link #getWeightedSov(Team, int)} for each week with values which is not after {@code upToWeek}, in order
+     */
+    public double[] getWeightedSovSeries(Team team, int upToWeek) {
+        return series(weightedSov, team, upToWeek);
+    }
+
+    private double lookup(List<double[]> values, Team team, int weekNum) {
+        int row = -1;
+        for (int i = 0; i < weekNumbers.size() && weekNumbers.get(i) <= weekNum; i++) row = i;
+        return row < 0 ? 0 : values.get(row)[team.getId()];
+    }
+}
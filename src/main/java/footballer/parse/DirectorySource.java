@@ -0,0 +1,104 @@
+package footballer.parse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import footballer.Utils;
+
+/**
+ * Defines a {@link GameSource} which reads recorded scorestrips from a directory on disk.
+ *
+ * Each week is read from {@code <directory>/<seasonYear>/<seasonType>/<weekNum>.xml}, for example {@code 2017/REG/1.xml}.
+ * If there is no XML file for a week, {@code <weekNum>.json} is read instead.
+ *
+ * XML files have the same format as the scorestrips on the NFL website (see {@link ScorestripReader}).
+ * JSON files contain either an array of games, or an object with such an array in its {@code gms} field,
+ * where each game is an object with the same {@code hnn}, {@code vnn}, {@code hs}, {@code vs} and {@code q} fields as the XML attributes.
+ */
+public class DirectorySource implements GameSource {
+    private final Path directory;
+
+    public DirectorySource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public List<ParsedGame> getWeek(int seasonYear, String seasonType, int weekNum) throws IOException {
+        Path weekDirectory = directory.resolve(Integer.toString(seasonYear)).resolve(seasonType);
+
+        Path xml = weekDirectory.resolve(weekNum + ".xml");
+        if (Files.isRegularFile(xml)) {
+            try (InputStream in = Files.newInputStream(xml)) {
+                return ScorestripReader.read(in);
+            } catch (XMLStreamException e) {
+                throw new IOException("Malformed scorestrip: " + xml, e);
+            }
+        }
+
+        Path json = weekDirectory.resolve(weekNum + ".json");
+        if (Files.isRegularFile(json)) {
+            try (Reader reader = Files.newBufferedReader(json, StandardCharsets.UTF_8)) {
+                return readJson(reader);
+            } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+                throw new IOException("Malformed scorestrip: " + json, e);
+            }
+        }
+
+        throw new NoSuchFileException(xml.toString(), json.toString(), "No recorded scorestrip for this week");
+    }
+
+    /**
+     * Gets the name of this source, which is different for each directory.
+     * @return {@code directory-} followed by a hash of the absolute path of the directory
+     */
+    @Override
+    public String getName() {
+        return "directory-" + Integer.toHexString(directory.toAbsolutePath().normalize().toString().hashCode());
+    }
+
+    /**
+     * Reads all of the {@link ParsedGame}s from a JSON scorestrip.
+     * @param reader the {@link Reader} containing the JSON scorestrip
+     * @return the {@link ParsedGame}s in the scorestrip, in the order in which they appear
+     */
+    private static List<ParsedGame> readJson(Reader reader) {
+        JsonElement root = new JsonParser().parse(reader);
+        JsonArray array = root.isJsonArray() ? root.getAsJsonArray() : root.getAsJsonObject().getAsJsonArray("gms");
+
+        List<ParsedGame> games = new ArrayList<>();
+        for (JsonElement element : array) {
+            JsonObject game = element.getAsJsonObject();
+            String homeTeamName = Utils.upperCaseFirstLetter(game.get("hnn").getAsString());
+            String awayTeamName = Utils.upperCaseFirstLetter(game.get("vnn").getAsString());
+            int homeTeamScore = parseScore(game.get("hs"));
+            int awayTeamScore = parseScore(game.get("vs"));
+            JsonElement status = game.get("q");
+            boolean isFinal = status != null && !status.isJsonNull() && ScorestripReader.isFinalStatus(status.getAsString());
+            games.add(new ParsedGame(awayTeamName, homeTeamName, awayTeamScore, homeTeamScore, isFinal));
+        }
+        return games;
+    }
+
+    /**
+     * Parses a JSON score field.
+     * @param value the score field, which may be missing, {@code null}, a number or a string
+     * @return the score, or {@code -1} if the score is missing or empty (the game has not been played yet)
+     */
+    private static int parseScore(JsonElement value) {
+        if (value == null || value.isJsonNull()) return -1;
+        String score = value.getAsString();
+        return score.isEmpty() ? -1 : Integer.parseInt(score);
+    }
+}
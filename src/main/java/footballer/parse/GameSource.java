@@ -0,0 +1,26 @@
+package footballer.parse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Defines a source of scorestrip weeks, such as the NFL website or a directory of recorded scorestrips.
+ */
+public interface GameSource {
+
+    /**
+     * Gets all of the {@link ParsedGame}s of a single week.
+     * @param seasonYear the year of the season which contains the week
+     * @param seasonType the type of the season which contains the week (such as {@code REG})
+     * @param weekNum the number of the week
+     * @return the {@link ParsedGame}s of the week, in the order in which they appear in the source
+     * @throws IOException if the week could not be read from this source
+     */
+    List<ParsedGame> getWeek(int seasonYear, String seasonType, int weekNum) throws IOException;
+
+    /**
+     * Gets a name which identifies this source, so that the weeks of different sources are kept apart in a {@link WeekCache}.
+     * @return the name of this source, which can be used as a file name
+     */
+    String getName();
+}
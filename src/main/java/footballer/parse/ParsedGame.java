@@ -0,0 +1,40 @@
+package footballer.parse;
+
+/**
+ * Defines a single game as read from a scorestrip, before it has been added to a {@link footballer.structure.Season}.
+ *
+ * Scores of games which have not been played yet are {@code -1}.
+ * Games which are still in progress already have scores, so whether a game is over is kept separately (see {@link #isFinal()}).
+ */
+public class ParsedGame {
+    public final String awayTeamName;
+    public final String homeTeamName;
+
+    public final int awayTeamScore;
+    public final int homeTeamScore;
+
+    private final boolean finished;
+
+    public ParsedGame(String aTN, String hTN, int aTS, int hTS, boolean fin) {
+        awayTeamName = aTN;
+        homeTeamName = hTN;
+
+        awayTeamScore = aTS;
+        homeTeamScore = hTS;
+
+        finished = fin;
+    }
+
+    /**
+     * Determines if this game has been played to completion.
+     * @return {@code true} if the source marked the game as final, or {@code false} if it has not been played yet or is still in progress
+     */
+    public boolean isFinal() {
+        return finished;
+    }
+
+    @Override
+    public String toString() {
+        return awayTeamName + " (" + awayTeamScore + ") @ " + homeTeamName + " (" + homeTeamScore + ")";
+    }
+}
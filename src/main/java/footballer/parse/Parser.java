@@ -1,71 +1,241 @@
 package footballer.parse;
 
 import java.io.IOException;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import footballer.Utils;
+import footballer.structure.Game;
 import footballer.structure.Season;
+import footballer.structure.Week;
 
 /**
  * Parses a source for {@link footballer.structure.Game} information.
  */
 public class Parser {
+    private static final String SEASON_TYPE = "REG";
+
+    /** Incomplete weeks are refetched once they have been cached for longer than this many milliseconds. */
+    private static final long CACHE_TIME_TO_LIVE = 5 * 60 * 1000;
+
+    /** The maximum number of weeks which are fetched from the {@link GameSource} at the same time. */
+    private static final int MAX_PARALLEL_FETCHES = 8;
+
+    private static final ExecutorService fetchExecutor = Executors.newFixedThreadPool(MAX_PARALLEL_FETCHES, runnable -> {
+        Thread thread = new Thread(runnable, "footballer-week-fetch");
+        thread.setDaemon(true); // Don't keep the JVM alive just for idle fetch threads
+        return thread;
+    });
+
+    private static GameSource source = new ScorestripSource();
+    private static WeekCache cache = new WeekCache(Paths.get(System.getProperty("user.home"), ".footballer", "weeks"), CACHE_TIME_TO_LIVE);
+
+    /**
+     * Sets the {@link GameSource} which weeks are fetched from.
+     * By default, weeks are fetched from the NFL website ({@link ScorestripSource}).
+     * @param gameSource the {@link GameSource} to use
+     */
+    public static void setSource(GameSource gameSource) {
+        source = gameSource;
+    }
+
+    /**
+     * Gets the {@link GameSource} which weeks are fetched from.
+     * @return the {@link GameSource} in use
+     */
+    public static GameSource getSource() {
+        return source;
+    }
+
+    /**
+     * Sets the {@link WeekCache} which is checked before fetching a week from the {@link GameSource}.
+     * @param weekCache the {@link WeekCache} to use, or {@code null} to always fetch weeks from the {@link GameSource}
+     */
+    public static void setCache(WeekCache weekCache) {
+        cache = weekCache;
+    }
+
+    /**
+     * Gets the {@link WeekCache} which is checked before fetching a week from the {@link GameSource}.
+     * @return the {@link WeekCache} in use, or {@code null} if weeks are always fetched from the {@link GameSource}
+     */
+    public static WeekCache getCache() {
+        return cache;
+    }
 
     /**
      * Builds a {@link Season} with the current season structure ({@link Utils#createCurrentStructure(int)}) and fills it in with {@link footballer.structure.Game}s.
-     * This method uses the NFL website to grab game data and populate the season.
+     * This method uses the {@link GameSource} to grab game data and populate the season, fetching one week at a time.
      * @param seasonYear the year of the season to be created and populated with {@link footballer.structure.Game}s
      * @param upToWeek the last week (inclusive) to populate {@link footballer.structure.Game}s from
      * @return the {@link Season} specified by the year {@code seasonYear}
      * populated with {@link footballer.structure.Game}s from {@link footballer.structure.Week} {@code 1} through {@code upToWeek} (inclusive)
      */
     public static Season parseCurrentStructure(int seasonYear, int upToWeek) {
+        return parseCurrentStructure(seasonYear, upToWeek, false);
+    }
+
+    /**
+     * Builds a {@link Season} with the current season structure ({@link Utils#createCurrentStructure(int)}) and fills it in with {@link footballer.structure.Game}s.
+     * This method uses the {@link GameSource} to grab game data and populate the season.
+     *
+     * When {@code parallel} is {@code true}, every week is fetched at once (up to {@link #MAX_PARALLEL_FETCHES} at a time),
+     * so the total fetch time is close to that of the slowest single week rather than the sum of all weeks.
+     * Either way, the {@link footballer.structure.Week}s are added to the {@link Season} in order.
+     *
+     * @param seasonYear the year of the season to be created and populated with {@link footballer.structure.Game}s
+     * @param upToWeek the last week (inclusive) to populate {@link footballer.structure.Game}s from
+     * @param parallel whether the weeks should be fetched in parallel
+     * @return the {@link Season} specified by the year {@code seasonYear}
+     * populated with {@link footballer.structure.Game}s from {@link footballer.structure.Week} {@code 1} through {@code upToWeek} (inclusive)
+     */
+    public static Season parseCurrentStructure(int seasonYear, int upToWeek, boolean parallel) {
         Season season = Utils.createCurrentStructure(seasonYear);
 
-        String url = "http://nfl.com/ajax/scorestrip";
+        if (!parallel) {
+            for (int weekNum = 1; weekNum < upToWeek + 1; weekNum++) {
+                addWeek(season, weekNum, parseWeek(seasonYear, weekNum));
+            }
+            return season;
+        }
 
+        List<Future<List<ParsedGame>>> weeks = new ArrayList<>();
         for (int weekNum = 1; weekNum < upToWeek + 1; weekNum++) {
-            season.addWeek(weekNum);
-            String query = String.format("season=%s&seasonType=%s&week=%s", Integer.toString(seasonYear), "REG", Integer.toString(weekNum));
+            final int num = weekNum;
+            weeks.add(fetchExecutor.submit(() -> parseWeek(seasonYear, num)));
+        }
 
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = null;
+        for (int weekNum = 1; weekNum < upToWeek + 1; weekNum++) {
+            List<ParsedGame> games;
             try {
-                builder = factory.newDocumentBuilder();
-            } catch (ParserConfigurationException e) {
+                games = weeks.get(weekNum - 1).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                games = new ArrayList<>();
+            } catch (ExecutionException e) {
                 e.printStackTrace();
+                games = new ArrayList<>();
             }
-            Document doc = null;
-            try {
-                doc = builder.parse(url + "?" + query);
-            } catch (SAXException e) {
-                e.printStackTrace();
-            } catch (IOException e) {
-                e.printStackTrace();
+            addWeek(season, weekNum, games);
+        }
+
+        return season;
+    }
+
+    /**
+     * Brings a {@link Season} which was previously populated by this parser up to date, without rebuilding it.
+     *
+     * {@link Week}s which are already final are kept as they are.
+     * Every other existing {@link Week} (one which still has {@link Game}s to be played or in progress) is fetched again and filled in with the new results,
+     * and any weeks after the last week in the season are added, up to {@code upToWeek} (inclusive).
+     *
+     * @param season the {@link Season} to refresh
+     * @param upToWeek the last week (inclusive) which the season should contain after refreshing
+     * @return the number of the earliest {@link Week} whose {@link Game}s changed or which was added,
+     * or {@code -1} if the season did not change
+     */
+    public static int refreshSeason(Season season, int upToWeek) {
+        int earliestChange = -1;
+
+        for (Week week : season.getWeeks()) {
+            if (week.isFinal()) continue;
+
+            List<ParsedGame> games = parseWeek(season.year, week.number);
+            if (matches(week, games)) continue;
+
+            season.clearWeek(week.number);
+            for (ParsedGame game : games) {
+                season.addGame(week.number, game.awayTeamName, game.homeTeamName, game.awayTeamScore, game.homeTeamScore, game.isFinal());
             }
-            doc.getDocumentElement().normalize();
+            if (earliestChange == -1 || week.number < earliestChange) earliestChange = week.number;
+        }
 
-            NodeList nodeList = doc.getElementsByTagName("g");
+        int lastWeek = season.getLastWeekNumber();
+        for (int weekNum = lastWeek + 1; weekNum < upToWeek + 1; weekNum++) {
+            addWeek(season, weekNum, parseWeek(season.year, weekNum));
+            if (earliestChange == -1) earliestChange = weekNum;
+        }
+
+        return earliestChange;
+    }
 
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                NamedNodeMap nodeMap = nodeList.item(i).getAttributes();
-                String homeTeamName = Utils.upperCaseFirstLetter(nodeMap.getNamedItem("hnn").getNodeValue());
-                String awayTeamName = Utils.upperCaseFirstLetter(nodeMap.getNamedItem("vnn").getNodeValue());
-                int homeTeamScore = Integer.parseInt(nodeMap.getNamedItem("hs").getNodeValue().equals("") ? "-1" : nodeMap.getNamedItem("hs").getNodeValue());
-                int awayTeamScore = Integer.parseInt(nodeMap.getNamedItem("vs").getNodeValue().equals("") ? "-1" : nodeMap.getNamedItem("vs").getNodeValue());
-                season.addGame(weekNum, awayTeamName, homeTeamName, awayTeamScore, homeTeamScore);
+    /**
+     * Determines if a {@link Week} already contains exactly the given {@link ParsedGame}s, in the same order.
+     * @param week the {@link Week} to compare
+     * @param games the {@link ParsedGame}s to compare
+     * @return {@code true} if every game matches by team names, scores and whether it is final, or {@code false} otherwise
+     */
+    private static boolean matches(Week week, List<ParsedGame> games) {
+        List<Game> existing = week.getGames();
+        if (existing.size() != games.size()) return false;
+
+        for (int i = 0; i < games.size(); i++) {
+            Game game = existing.get(i);
+            ParsedGame parsed = games.get(i);
+            if (!game.awayTeam.name.equals(parsed.awayTeamName)
+                    || !game.homeTeam.name.equals(parsed.homeTeamName)
+                    || game.awayTeamScore != parsed.awayTeamScore
+                    || game.homeTeamScore != parsed.homeTeamScore
+                    || game.isFinal() != parsed.isFinal()) {
+                return false;
             }
         }
 
-        return season;
+        return true;
+    }
+
+    /**
+     * Adds a {@link footballer.structure.Week} to a {@link Season} and fills it in with {@link ParsedGame}s.
+     * @param season the {@link Season} to add the week to
+     * @param weekNum the number of the week to add
+     * @param games the {@link ParsedGame}s to add to the week
+     */
+    private static void addWeek(Season season, int weekNum, List<ParsedGame> games) {
+        season.addWeek(weekNum);
+        for (ParsedGame game : games) {
+            season.addGame(weekNum, game.awayTeamName, game.homeTeamName, game.awayTeamScore, game.homeTeamScore, game.isFinal());
+        }
+    }
+
+    /**
+     * Gets the {@link ParsedGame}s of a single regular season week.
+     * The {@link WeekCache} is checked first, and the {@link GameSource} is only used if the week is not cached (or is out of date).
+     * @param seasonYear the year of the season which contains the week
+     * @param weekNum the number of the week
+     * @return the {@link ParsedGame}s of the week, which is empty if the week could not be fetched
+     */
+    public static List<ParsedGame> parseWeek(int seasonYear, int weekNum) {
+        GameSource gameSource = source;
+        WeekCache weekCache = cache;
+        if (weekCache != null) {
+            List<ParsedGame> cached = weekCache.get(gameSource.getName(), seasonYear, SEASON_TYPE, weekNum);
+            if (cached != null) return cached;
+        }
+
+        List<ParsedGame> games = fetchWeek(gameSource, seasonYear, weekNum);
+        if (games == null) return new ArrayList<>();
+
+        if (weekCache != null) weekCache.put(gameSource.getName(), seasonYear, SEASON_TYPE, weekNum, games);
+        return games;
+    }
+
+    /**
+     * Fetches the {@link ParsedGame}s of a single regular season week from a {@link GameSource}.
+     * @param gameSource the {@link GameSource} to fetch the week from
+     * @param seasonYear the year of the season which contains the week
+     * @param weekNum the number of the week
+     * @return the {@link ParsedGame}s of the week, or {@code null} if the week could not be fetched
+     */
+    private static List<ParsedGame> fetchWeek(GameSource gameSource, int seasonYear, int weekNum) {
+        try {
+            return gameSource.getWeek(seasonYear, SEASON_TYPE, weekNum);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
     }
 }
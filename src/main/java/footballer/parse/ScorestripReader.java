@@ -0,0 +1,84 @@
+package footballer.parse;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import footballer.Utils;
+
+/**
+ * Reads {@link ParsedGame}s from scorestrip XML.
+ *
+ * The XML is read with a streaming pull parser, so each {@code <g>} element is turned into a {@link ParsedGame} as soon as it is reached,
+ * without building a document tree for the whole week.
+ * The attributes which are used from each {@code <g>} element are as follows:
+ * <ul>
+ *     <li>{@code hnn}: the name of the home team</li>
+ *     <li>{@code vnn}: the name of the visiting (away) team</li>
+ *     <li>{@code hs}: the score of the home team, which is empty if the game has not been played yet</li>
+ *     <li>{@code vs}: the score of the visiting (away) team, which is empty if the game has not been played yet</li>
+ *     <li>
+ *         {@code q}: the status of the game, which is {@code P} before it starts, the quarter ({@code 1} to {@code 4}) or {@code H} while it is being played,
+ *         and {@code F} (or {@code FO} after overtime) once it is over.
+ *         Only the final statuses mark a game as final, since a game in progress already has scores.
+ *     </li>
+ * </ul>
+ */
+public class ScorestripReader {
+    /** Shared by every read, since creating a factory is expensive and creating readers from it is thread-safe once it is configured. */
+    private static final XMLInputFactory factory = XMLInputFactory.newInstance();
+
+    static {
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Reads all of the {@link ParsedGame}s from a scorestrip.
+     * @param in the {@link InputStream} containing the scorestrip XML, which is not closed by this method
+     * @return the {@link ParsedGame}s in the scorestrip, in the order in which they appear
+     * @throws XMLStreamException if the scorestrip is not well-formed XML
+     */
+    public static List<ParsedGame> read(InputStream in) throws XMLStreamException {
+        List<ParsedGame> games = new ArrayList<>();
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("g")) {
+                    String homeTeamName = Utils.upperCaseFirstLetter(reader.getAttributeValue(null, "hnn"));
+                    String awayTeamName = Utils.upperCaseFirstLetter(reader.getAttributeValue(null, "vnn"));
+                    int homeTeamScore = parseScore(reader.getAttributeValue(null, "hs"));
+                    int awayTeamScore = parseScore(reader.getAttributeValue(null, "vs"));
+                    boolean isFinal = isFinalStatus(reader.getAttributeValue(null, "q"));
+                    games.add(new ParsedGame(awayTeamName, homeTeamName, awayTeamScore, homeTeamScore, isFinal));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return games;
+    }
+
+    /**
+     * Determines if a game status (the {@code q} attribute) means that the game is over.
+     * @param status the value of the status attribute
+     * @return {@code true} if {@code status} is {@code F} or {@code FO}, or {@code false} otherwise (including if it is missing)
+     */
+    static boolean isFinalStatus(String status) {
+        return "F".equals(status) || "FO".equals(status);
+    }
+
+    /**
+     * Parses a score attribute.
+     * @param value the value of the score attribute
+     * @return the score, or {@code -1} if the score is missing or empty (the game has not been played yet)
+     */
+    private static int parseScore(String value) {
+        return value == null || value.isEmpty() ? -1 : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,30 @@
+package footballer.parse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Defines a {@link GameSource} which fetches scorestrips from the NFL website.
+ */
+public class ScorestripSource implements GameSource {
+    private static final String SCORESTRIP_URL = "http://nfl.com/ajax/scorestrip";
+
+    @Override
+    public List<ParsedGame> getWeek(int seasonYear, String seasonType, int weekNum) throws IOException {
+        String query = String.format("season=%s&seasonType=%s&week=%s", Integer.toString(seasonYear), seasonType, Integer.toString(weekNum));
+
+        try (InputStream in = new URL(SCORESTRIP_URL + "?" + query).openStream()) {
+            return ScorestripReader.read(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed scorestrip for week " + weekNum + " of " + seasonYear + "!", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "nfl";
+    }
+}
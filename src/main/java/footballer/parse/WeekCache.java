@@ -0,0 +1,117 @@
+package footballer.parse;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches parsed scorestrip weeks on disk so that they do not have to be fetched again.
+ *
+ * Each week is stored in its own file, keyed by the {@link GameSource} it was fetched from (see {@link GameSource#getName()}),
+ * and by its season year, season type and week number, so switching sources never returns the weeks of another source.
+ * A week in which every {@link ParsedGame} is final never changes again, so it is kept permanently.
+ * Any other week (one which is empty or still has games to be played or in progress) is only used until it is older than the time to live of this cache.
+ *
+ * Each game is stored as a line of the away team name, the home team name, the away team score, the home team score,
+ * and {@code F} if the game is final (or {@code -} if it is not).
+ * Lines without the last field were written before it existed, so their games are not treated as final and the week is fetched again once it expires.
+ */
+public class WeekCache {
+    private final Path directory;
+    private final long timeToLive;
+
+    /**
+     * Creates a week cache.
+     * @param directory the directory to store the cached weeks in, which is created if it does not exist
+     * @param timeToLive the number of milliseconds for which a week which is not yet complete is considered up to date
+     */
+    public WeekCache(Path directory, long timeToLive) {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Gets a cached week.
+     * @param sourceName the name of the {@link GameSource} which the week was fetched from
+     * @param seasonYear the year of the season which contains the week
+     * @param seasonType the type of the season which contains the week (such as {@code REG})
+     * @param weekNum the number of the week
+     * @return the {@link ParsedGame}s of the week,
+     * or {@code null} if the week is not cached,
+     * or if the week is not complete and is older than the time to live of this cache
+     */
+    public List<ParsedGame> get(String sourceName, int seasonYear, String seasonType, int weekNum) {
+        Path file = getFile(sourceName, seasonYear, seasonType, weekNum);
+        if (!Files.isRegularFile(file)) return null;
+
+        List<ParsedGame> games = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                String[] fields = line.split(",");
+                boolean isFinal = fields.length > 4 && fields[4].equals("F");
+                games.add(new ParsedGame(fields[0], fields[1], Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), isFinal));
+            }
+
+            if (!isComplete(games) && System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis() > timeToLive) {
+                return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+
+        return games;
+    }
+
+    /**
+     * Stores a week in this cache, replacing any previously cached version of it.
+     * @param sourceName the name of the {@link GameSource} which the week was fetched from
+     * @param seasonYear the year of the season which contains the week
+     * @param seasonType the type of the season which contains the week (such as {@code REG})
+     * @param weekNum the number of the week
+     * @param games the {@link ParsedGame}s of the week
+     */
+    public void put(String sourceName, int seasonYear, String seasonType, int weekNum, List<ParsedGame> games) {
+        Path file = getFile(sourceName, seasonYear, seasonType, weekNum);
+        try {
+            Files.createDirectories(file.getParent());
+
+            // Write to a temporary file first so that a reader never sees a partially written week
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (ParsedGame game : games) {
+                    writer.write(game.awayTeamName + "," + game.homeTeamName + "," + game.awayTeamScore + "," + game.homeTeamScore + "," + (game.isFinal() ? "F" : "-"));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Determines if a week is complete, meaning that it will not change anymore.
+     * @param games the {@link ParsedGame}s of the week
+     * @return {@code true} if the week has at least one game and every game in it is final, or {@code false} otherwise
+     */
+    public static boolean isComplete(List<ParsedGame> games) {
+        if (games.isEmpty()) return false;
+        for (ParsedGame game : games) {
+            if (!game.isFinal()) return false;
+        }
+        return true;
+    }
+
+    private Path getFile(String sourceName, int seasonYear, String seasonType, int weekNum) {
+        return directory.resolve(sourceName).resolve(seasonYear + "-" + seasonType + "-" + weekNum + ".csv");
+    }
+}
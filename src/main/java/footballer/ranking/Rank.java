@@ -6,30 +6,39 @@ import footballer.structure.*;
 
 /**
  * Defines a rank for a {@link Team}.
+ *
+ * The value of a rank is stored in an array of values which is indexed by {@link Team#getId()},
+ * so that a {@link RankingSystem} can update the values of all of its ranks directly.
  */
 public class Rank {
     public final Team team;
-    private double value;
+    private final double[] values;
 
     /**
      * {@link Comparator} to be used to compare two ranks to each other by their {@code value}.
      */
     public static Comparator<Rank> valueComparator = (Rank e1, Rank e2) -> -Double.compare(e1.getValue(), e2.getValue());
 
-    public Rank(Team team) {
+    /**
+     * Creates a rank which is backed by an array of values.
+     * @param team the {@link Team} which this rank is for
+     * @param values the array of rank values indexed by {@link Team#getId()}, which must contain an element for {@code team}
+     */
+    public Rank(Team team, double[] values) {
         this.team = team;
+        this.values = values;
     }
 
     public double getValue() {
-        return value;
+        return values[team.getId()];
     }
 
     public void setValue(double value) {
-        this.value = value;
+        values[team.getId()] = value;
     }
 
     @Override
     public String toString() {
-        return "#Rank<Team: " + team.name + ", Value: " + Utils.roundDecimal(value, 2) + ">";
+        return "#Rank<Team: " + team.name + ", Value: " + Utils.roundDecimal(getValue(), 2) + ">";
     }
 }
@@ -1,7 +1,9 @@
 package footballer.ranking;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import footballer.ranking.logging.Log;
 import footballer.ranking.logging.LogEntry;
@@ -20,30 +22,119 @@ import footballer.structure.Week;
  *     <li>{@link Rank}s are calculated on a per-{@link Game} basis, which means that ranks can only change through the context of finished game.</li>
  *     <li>For a given {@link Game}, a ranking system uses both {@link Team}s' initial {@link Rank}s, and the result of the game to determine the change (if any) in ranks.</li>
  *     <li>The initial {@link Rank}s of each {@link Team}, and their new ranks are saved to the {@link Log} to maintain a history of rank changes</li>
+ *     <li>At the end of each {@link Week}, a checkpoint of every {@link Team}'s {@link Rank} is saved to the {@link Log}, so any week's ranks can be read back without replaying games.</li>
  * </ul>
  */
 public abstract class RankingSystem {
     protected List<Rank> ranks = new ArrayList<>();
     protected Log log;
 
+    /** The current {@link Rank} value of each {@link Team}, indexed by {@link Team#getId()}. */
+    protected final double[] values;
+    /** The {@link Rank} of each {@link Team}, indexed by {@link Team#getId()}. */
+    private final Rank[] ranksById;
+    /** Every ranked {@link Team} by its name, so {@link #getRank(String)} does not have to search through the {@link Rank}s. */
+    private final Map<String, Team> teamsByName = new HashMap<>();
+    /** The number of the last {@link Week} which has been applied to this ranking system, or {@code 0} if none have. */
+    private int lastAppliedWeek = 0;
+    /** The number of the first applied {@link Week} which was not final (see {@link Week#isFinal()}) when it was applied, or {@code 0} if there is none. */
+    private int firstIncompleteWeek = 0;
+    /** The {@link Rank} value of each {@link Team} before the first {@link Week} was applied, which is restored when rewinding to before every checkpoint. */
+    private double[] baselineValues;
+
+    /**
+     * Creates a ranking system for the given {@link Team}s.
+     * Throws an {@link IllegalArgumentException} if any of the {@link Team}s does not have an id (see {@link Team#getId()}).
+     * @param teams the {@link Team}s to be ranked, which must have been added through a {@link Season}
+     */
     public RankingSystem(List<Team> teams) {
-        for (Team team : teams) ranks.add(new Rank(team));
+        int size = 0;
+        for (Team team : teams) {
+            if (team.getId() < 0) throw new IllegalArgumentException("Cannot rank team without an id: " + team.name + "!");
+            size = Math.max(size, team.getId() + 1);
+        }
+
+        values = new double[size];
+        ranksById = new Rank[size];
+        for (Team team : teams) {
+            Rank rank = new Rank(team, values);
+            ranks.add(rank);
+            ranksById[team.getId()] = rank;
+            teamsByName.put(team.name, team);
+        }
         log = new Log(teams);
     }
 
     /**
-     * Applies all of the {@link Game}s in a given {@link Season} to this ranking system.
+     * Applies the {@link Game}s in a given {@link Season} to this ranking system.
+     *
+     * Only the {@link Week}s after the last week which has already been applied ({@link #getLastAppliedWeek()}) are applied,
+     * so calling this method again after new weeks have been added to the season only costs as much as the new games.
+     * Weeks which were empty or still had games to be played when they were applied are applied again (along with every week after them),
+     * so they pick up any games which have finished since.
+     * If games in a week which was already final when it was applied have changed, use {@link #rewind(int)} first.
+     *
      * @param season the {@link Season} to draw the {@link Game}s from
      */
     public void applyGames(Season season) {
+        applyGames(season, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Applies the {@link Game}s in a given {@link Season} to this ranking system, up to a given {@link Week}.
+     * Like {@link #applyGames(Season)}, only the weeks after {@link #getLastAppliedWeek()} are applied,
+     * so a season can be walked one week at a time by calling this method with each successive week number.
+     * @param season the {@link Season} to draw the {@link Game}s from
+     * @param upToWeek the number of the last {@link Week} (inclusive) to apply
+     */
+    public void applyGames(Season season, int upToWeek) {
+        if (firstIncompleteWeek > 0) {
+            upToWeek = Math.max(upToWeek, lastAppliedWeek); // Don't lose any weeks which were applied before rewinding
+            rewind(firstIncompleteWeek - 1);
+        }
+        if (lastAppliedWeek == 0) baselineValues = values.clone();
+
         for (Week week : season.getWeeks()) {
+            if (week.number > upToWeek) continue;
+            if (week.number <= lastAppliedWeek) continue;
+            lastAppliedWeek = week.number;
+            if (!week.isFinal() && firstIncompleteWeek == 0) firstIncompleteWeek = week.number;
+            if (week.isEmpty()) continue;
             for (Game game : week.getGames()) {
                 LogEntry entry = applyGame(game);
                 log.addEntry(week.number, entry);
             }
+            finishWeek(week);
+            log.addCheckpoint(week.number, values);
         }
     }
 
+    /**
+     * Rewinds this ranking system to the end of a given {@link Week}, as if the weeks after it had never been applied.
+     * The {@link Rank}s are restored from the checkpoint in the {@link Log}, and the log entries for the later weeks are removed,
+     * so the next call to {@link #applyGames(Season)} resumes right after {@code weekNum}.
+     * @param weekNum the number of the last {@link Week} to keep ({@code 0} to rewind to the baseline {@link Rank}s)
+     */
+    public void rewind(int weekNum) {
+        if (weekNum >= lastAppliedWeek) return;
+        List<Integer> weekNumbers = log.getWeekNumbers();
+        double[] checkpoint = weekNumbers.isEmpty() || weekNumbers.get(0) > weekNum ? baselineValues : log.getCheckpoint(weekNum);
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(checkpoint[i])) values[i] = checkpoint[i];
+        }
+        log.truncate(weekNum);
+        lastAppliedWeek = weekNum;
+        if (firstIncompleteWeek > weekNum) firstIncompleteWeek = 0;
+    }
+
+    /**
+     * Gets the number of the last {@link Week} which has been applied to this ranking system.
+     * @return the number of the last applied {@link Week}, or {@code 0} if no weeks have been applied
+     */
+    public int getLastAppliedWeek() {
+        return lastAppliedWeek;
+    }
+
     /**
      * Applies the results of a given {@link Game} to this ranking system.
      *
@@ -54,6 +145,17 @@ public abstract class RankingSystem {
      */
     protected abstract LogEntry applyGame(Game game);
 
+    /**
+     * Finishes applying a {@link Week} to this ranking system, after each of its {@link Game}s has been applied and before its checkpoint is saved to the {@link Log}.
+     *
+     * Ranking systems which rank every {@link Team} at once from all of the games so far, rather than one game at a time,
+     * can update their {@link Rank}s here. By default, this method does nothing.
+     *
+     * @param week the {@link Week} which has just been applied
+     */
+    protected void finishWeek(Week week) {
+    }
+
     /**
      * Generates baseline {@link Rank}s for each given {@link Team} to be used in this ranking system.
      *
@@ -102,6 +204,19 @@ public abstract class RankingSystem {
         }
     }
 
+    /**
+     * Gets the {@link Rank}s of every {@link Team} as they were at the end of a given {@link Week}, using the checkpoints in the {@link Log}.
+     * @param weekNum the number of the {@link Week}
+     * @return a new {@link List} of {@link Rank}s (which are not affected by later changes to this ranking system)
+     * as of the end of the last applied week which is not after {@code weekNum}
+     */
+    public List<Rank> getRanksAt(int weekNum) {
+        double[] checkpoint = log.getCheckpoint(weekNum);
+        List<Rank> result = new ArrayList<>();
+        for (Rank rank : ranks) result.add(new Rank(rank.team, checkpoint));
+        return result;
+    }
+
     /**
      * Gets the {@link Log} for this ranking system.
      * @return the {@link Log} for this ranking system
@@ -113,14 +228,32 @@ public abstract class RankingSystem {
     /**
      * Determines which of two given {@link Team}s currently has the greater {@link Rank}.
      * @param first the first {@link Team} to compare
-     * @param second the first {@link Team} to compare
+     * @param second the second {@link Team} to compare
      * @return the {@link Rank} of {@code first} if its {@link Rank} is greater than the rank of {@code second},
      * or the rank of {@code second} otherwise
      */
     protected Rank getGreaterRank(Team first, Team second) {
-        Rank firstRank = getRank(first.name);
-        Rank secondRank = getRank(second.name);
-        return firstRank.getValue() > secondRank.getValue() ? firstRank : secondRank;
+        return ranksById[getGreaterTeam(first, second).getId()];
+    }
+
+    /**
+     * Determines which of two given {@link Team}s currently has the greater {@link Rank}, using only the primitive rank values.
+     * @param first the first {@link Team} to compare
+     * @param second the second {@link Team} to compare
+     * @return {@code first} if its {@link Rank} is greater than the rank of {@code second}, or {@code second} otherwise
+     */
+    protected Team getGreaterTeam(Team first, Team second) {
+        return values[first.getId()] > values[second.getId()] ? first : second;
+    }
+
+    /**
+     * Gets the {@link Rank} for a given {@link Team}.
+     * @param team the {@link Team} to get the {@link Rank} for
+     * @return the {@link Rank} of {@code team}, or {@code null} if this ranking system does not rank it
+     */
+    public Rank getRank(Team team) {
+        int id = team.getId();
+        return id >= 0 && id < ranksById.length ? ranksById[id] : null;
     }
 
     /**
@@ -129,10 +262,8 @@ public abstract class RankingSystem {
      * @return the {@link Rank} which matches {@code teamName}, or {@code null} if no such rank exists
      */
     public Rank getRank(String teamName) {
-        for (Rank rank : ranks) {
-            if (rank.team.name.equals(teamName)) return rank;
-        }
-        return null;
+        Team team = teamsByName.get(teamName);
+        return team == null ? null : ranksById[team.getId()];
     }
 
     public String toString() {
@@ -0,0 +1,67 @@
+package footballer.ranking;
+
+import java.util.List;
+import footballer.Utils;
+import footballer.ranking.system.AdjustedWins;
+import footballer.ranking.system.Colley;
+import footballer.ranking.system.EvenPlay;
+import footballer.ranking.system.Massey;
+import footballer.ranking.system.SelfBased;
+import footballer.structure.Season;
+import footballer.structure.Team;
+
+/**
+ * Defines the {@link RankingSystem}s which can be created by name, such as for the web API and for backtesting.
+ */
+public class RankingSystems {
+    /** The names of every {@link RankingSystem} which can be created by {@link #create(Season, String)}. */
+    public static final String[] names = {"evenplay", "adjustedwins", "selfbased", "massey", "colley"};
+
+    /**
+     * Creates a {@link RankingSystem} by its name with its default baseline {@link Rank}s, without applying any games.
+     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches {@code rankingSystemName} can be found.
+     * @param season the {@link Season} whose {@link Team}s should be ranked
+     * @param rankingSystemName the name of the {@link RankingSystem} to create (one of {@link #names})
+     * @return the new {@link RankingSystem}
+     */
+    public static RankingSystem create(Season season, String rankingSystemName) {
+        String[] teamNames = Utils.espnPreseasonRankings2017;
+        List<Team> teams = season.getTeams();
+
+        RankingSystem rankingSystem;
+        double maxBaseline;
+
+        switch (rankingSystemName) {
+            case "evenplay":
+                maxBaseline = 16;
+                rankingSystem = new EvenPlay(teams, 0.5);
+                break;
+
+            case "adjustedwins":
+                maxBaseline = 0;
+                rankingSystem = new AdjustedWins(teams);
+                break;
+
+            case "selfbased":
+                maxBaseline = 16;
+                rankingSystem = new SelfBased(teams);
+                break;
+
+            case "massey":
+                maxBaseline = 0;
+                rankingSystem = new Massey(teams);
+                break;
+
+            case "colley":
+                maxBaseline = 0.5;
+                rankingSystem = new Colley(teams);
+                break;
+
+            default:
+                throw new RuntimeException("Cannot create ranking system: " + rankingSystemName + "!");
+        }
+
+        rankingSystem.generateBaselineRanks(teamNames, 0, maxBaseline);
+        return rankingSystem;
+    }
+}
@@ -1,8 +1,18 @@
 package footballer.ranking.logging;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import footballer.Utils;
 import footballer.ranking.Rank;
@@ -10,105 +20,198 @@ import footballer.structure.Team;
 
 /**
  * Maintains a log of {@link Rank} changes for each team in a {@link footballer.structure.Season}.
+ *
+ * The log is stored in columns which are filled in as each {@link LogEntry} is added:
+ * <ul>
+ *     <li>The {@link LogEntry}s themselves, in the order in which they were added, along with the {@link footballer.structure.Week} each belongs to.</li>
+ *     <li>For each {@link Team} (by {@link Team#getId()}), the indices of the {@link LogEntry}s which it is a member of.</li>
+ *     <li>
+ *         A matrix of {@link Rank} values, with one row per {@link footballer.structure.Week} and one column per {@link Team},
+ *         holding each team's value at the end of that week.
+ *         A team which did not play in a week (a bye week) keeps its value from the week before.
+ *     </li>
+ * </ul>
+ * This way, the values of a {@link Team} (or of every team) can be read without searching through the {@link LogEntry}s.
+ * {@link LogEntry}s are expected to be added in {@link footballer.structure.Week} order.
  */
 public class Log {
-    /**
-     * Defines a pairing of a {@link footballer.structure.Week} number ({@code int}), and a {@link LogEntry}.
-     * This class is used (internally) to keep track of each {@link footballer.structure.Team}'s change in {@link Rank} for each week.
-     */
-    private static class EntryPair {
-        final int week;
-        final LogEntry entry;
+    private final List<Team> teams;
+    private final Map<String, Team> teamsByName = new HashMap<>();
 
-        EntryPair(int week, LogEntry entry) {
-            this.week = week;
-            this.entry = entry;
-        }
+    /** The number of columns in each row of values, which is one more than the greatest {@link Team#getId()}. */
+    private final int width;
 
-        @Override
-        public String toString() {
-            return "Week " + week + ": \n" + entry;
-        }
-    }
+    /** The number of each {@link footballer.structure.Week} which has at least one {@link LogEntry}, in the order they were added. */
+    private final List<Integer> weekNumbers = new ArrayList<>();
+    /** The {@link LogEntry}s of each {@link footballer.structure.Week}, in the same order as {@link #weekNumbers}. */
+    private final List<List<LogEntry>> weekEntries = new ArrayList<>();
+    /** The {@link Rank} value of each {@link Team} at the end of each {@link footballer.structure.Week}, in the same order as {@link #weekNumbers}. */
+    private final List<double[]> weekValues = new ArrayList<>();
+    /** The {@link Rank} value of each {@link Team} before its first {@link LogEntry}, or {@code NaN} if it has no entries yet. */
+    private final double[] initialValues;
 
-    /** {@link Map} which maintains a correspondence of {@link LogEntry}s to their corresponding {@link footballer.structure.Week} numbers. */
-    public Map<Integer, List<LogEntry>> entriesMap = new HashMap<>();
-    private final List<Team> teams;
+    /** Every {@link LogEntry} in the order in which it was added. */
+    private final List<LogEntry> entries = new ArrayList<>();
+    /** The {@link LogEntry} indices of each {@link Team}, indexed by {@link Team#getId()}. */
+    private int[][] teamEntries;
+    /** The number of {@link LogEntry} indices in use in each array of {@link #teamEntries}. */
+    private final int[] teamEntryCounts;
 
     public Log(List<Team> teams) {
         this.teams = teams;
+
+        int size = 0;
+        for (Team team : teams) {
+            teamsByName.put(team.name, team);
+            size = Math.max(size, team.getId() + 1);
+        }
+        width = size;
+
+        initialValues = new double[width];
+        Arrays.fill(initialValues, Double.NaN);
+        teamEntries = new int[width][];
+        for (int i = 0; i < width; i++) teamEntries[i] = new int[4];
+        teamEntryCounts = new int[width];
     }
 
     /**
      * Adds a {@link LogEntry} to a given {@link footballer.structure.Week} number in this rank log.
      * @param weekNum the number of the week to add the {@link LogEntry} to
      * @param entry the {@link LogEntry} to add
-     * @return the newly added {@link LogEntry}
+     * @return {@code true} once the {@link LogEntry} has been added
      */
     public boolean addEntry(int weekNum, LogEntry entry) {
-        List<LogEntry> logEntries = entriesMap.get(weekNum);
-        if (logEntries == null) {
-            logEntries = new ArrayList<>();
-            entriesMap.put(weekNum, logEntries);
+        int row = getOrAddRow(weekNum);
+
+        int index = entries.size();
+        entries.add(entry);
+        weekEntries.get(row).add(entry);
+
+        record(entry.favorite, entry.favoriteInitial, entry.favoriteNew, row, index);
+        record(entry.underdog, entry.underdogInitial, entry.underdogNew, row, index);
+
+        return true;
+    }
+
+    /**
+     * Records the values of one of the {@link Team}s of a {@link LogEntry} in the columns of this log.
+     */
+    private void record(Team team, double initial, double value, int row, int index) {
+        int id = team.getId();
+
+        if (Double.isNaN(initialValues[id])) {
+            // This is the team's first entry, so fill in its value for any earlier (bye) weeks
+            initialValues[id] = initial;
+            for (int i = 0; i < row; i++) weekValues.get(i)[id] = initial;
         }
-        return logEntries.add(entry);
+        weekValues.get(row)[id] = value;
+
+        if (teamEntryCounts[id] == teamEntries[id].length) teamEntries[id] = Arrays.copyOf(teamEntries[id], teamEntries[id].length * 2);
+        teamEntries[id][teamEntryCounts[id]++] = index;
     }
 
     /**
-     * Gets the greatest change (absolute value) for a given {@link Team}.
-     * @param teamName the name of the {@link Team} to examine
-     * @return the {@link EntryPair} which identifies the {@link footballer.structure.Week} number
-     * and the corresponding {@link LogEntry} representing the greatest change for the {@link Team} which matches {@code teamName}
+     * Records a checkpoint of every {@link Team}'s {@link Rank} value at the end of a given {@link footballer.structure.Week}.
+     *
+     * The checkpoint replaces the values which were derived from the {@link LogEntry}s of the week,
+     * so it also covers {@link Team}s which have not played yet.
+     * Any {@link Team} without an initial value yet (one which has not played) is given its checkpoint value as its initial value.
+     *
+     * @param weekNum the number of the week which has just ended
+     * @param values the {@link Rank} value of each {@link Team} at the end of the week, indexed by {@link Team#getId()}
      */
-    private EntryPair getGreatestChange(String teamName) {
-        List<EntryPair> teamPairs = getPairsForTeam(teamName);
+    public void addCheckpoint(int weekNum, double[] values) {
+        int row = getOrAddRow(weekNum);
+
+        for (Team team : teams) {
+            int id = team.getId();
+            if (Double.isNaN(initialValues[id])) {
+                initialValues[id] = values[id];
+                for (int i = 0; i < row; i++) weekValues.get(i)[id] = values[id];
+            }
+        }
 
-        EntryPair result = teamPairs.get(0);
-        teamPairs.remove(0);
+        System.arraycopy(values, 0, weekValues.get(row), 0, width);
+    }
+
+    /**
+     * Gets every {@link Team}'s {@link Rank} value at the end of a given {@link footballer.structure.Week}, without replaying any {@link LogEntry}s.
+     * @param weekNum the number of the week
+     * @return a new array of {@link Rank} values indexed by {@link Team#getId()},
+     * from the last week in this log which is not after {@code weekNum},
+     * or the initial values if there is no such week
+     */
+    public double[] getCheckpoint(int weekNum) {
+        int row = getLastRow(weekNum);
+        return row < 0 ? initialValues.clone() : weekValues.get(row).clone();
+    }
 
-        for (EntryPair pair : teamPairs) {
-            if (pair.entry != null && Math.abs(pair.entry.getDiff(teamName)) >= Math.abs(result.entry.getDiff(teamName))) result = pair;
+    /**
+     * Removes everything in this log which is after a given {@link footballer.structure.Week}.
+     * @param weekNum the number of the last {@link footballer.structure.Week} to keep
+     */
+    public void truncate(int weekNum) {
+        int keptRows = getLastRow(weekNum) + 1;
+
+        int keptEntries = 0;
+        for (int row = 0; row < keptRows; row++) keptEntries += weekEntries.get(row).size();
+
+        // Entries are added in week order, so the removed entries are always at the end of each team's indices
+        for (int id = 0; id < width; id++) {
+            while (teamEntryCounts[id] > 0 && teamEntries[id][teamEntryCounts[id] - 1] >= keptEntries) teamEntryCounts[id]--;
         }
 
-        return result;
+        entries.subList(keptEntries, entries.size()).clear();
+        weekNumbers.subList(keptRows, weekNumbers.size()).clear();
+        weekEntries.subList(keptRows, weekEntries.size()).clear();
+        weekValues.subList(keptRows, weekValues.size()).clear();
+        if (keptRows == 0) Arrays.fill(initialValues, Double.NaN);
     }
 
     /**
-     * Gets the {@link EntryPair} for a given {@link Team} and a given {@link footballer.structure.Week} number.
-     * @param teamName the name of the {@link Team} to find in the {@link List} of {@link LogEntry}s for the given {@link footballer.structure.Week} number
-     * @param weekNum the {@link footballer.structure.Week} number to examine to find the corresponding {@link Team}'s {@link LogEntry}
-     * @return the {@link EntryPair} representing the {@link footballer.structure.Week} number which matches {@code weekNum},
-     * and the corresponding {@link LogEntry} for the {@link Team} which matches which matches {@code teamName},
-     * or {@code null} if no such {@link LogEntry} exists
+     * Gets the index of the last row of values which is not after a given {@link footballer.structure.Week} number.
+     * @return the index of the row, or {@code -1} if every row is after {@code weekNum}
      */
-    private EntryPair getTeamPair(String teamName, int weekNum) {
-        for (LogEntry entry : entriesMap.get(weekNum)) {
-            if (entry.isMember(teamName)) return new EntryPair(weekNum, entry);
+    private int getLastRow(int weekNum) {
+        int row = -1;
+        for (int i = 0; i < weekNumbers.size(); i++) {
+            if (weekNumbers.get(i) <= weekNum) row = i;
         }
+        return row;
+    }
 
-        return null;
+    /**
+     * Gets the row of values for a given {@link footballer.structure.Week} number, adding a new row if the week has no entries yet.
+     * A new row starts out with every {@link Team}'s value from the previous row.
+     */
+    private int getOrAddRow(int weekNum) {
+        int last = weekNumbers.size() - 1;
+        if (last >= 0 && weekNumbers.get(last) == weekNum) return last;
+
+        int existing = weekNumbers.indexOf(weekNum);
+        if (existing >= 0) return existing;
+
+        weekNumbers.add(weekNum);
+        weekEntries.add(new ArrayList<>());
+        weekValues.add(last >= 0 ? weekValues.get(last).clone() : initialValues.clone());
+        return weekNumbers.size() - 1;
     }
 
     /**
-     * Gets all {@link EntryPair}s for a given {@link Team}.
-     *
-     * Fills in any {@link footballer.structure.Week}s for which the given {@link Team} does not have an {@link LogEntry}
-     * with a {@link EntryPair} containing a {@code null} value for its {@code entry} field.
-     *
-     * @param teamName the name of the {@link Team} go retrieve {@link EntryPair}s for
-     * @return a {@link List} of all {@link EntryPair}s which match {@code teamName}
-     */
-    private List<EntryPair> getPairsForTeam(String teamName) {
-        List<EntryPair> result = new ArrayList<>();
-
-        for (Integer key : entriesMap.keySet()) {
-            EntryPair pair = getTeamPair(teamName, key);
-            if (pair != null) {
-                result.add(pair);
-            } else {
-                // If a team does not have an entry for this week,
-                result.add(new EntryPair(key, null));
-            }
+     * Gets the {@link LogEntry} with the greatest change (absolute value) for a given {@link Team}.
+     * @param teamName the name of the {@link Team} to examine
+     * @return the {@link LogEntry} representing the greatest change for the {@link Team} which matches {@code teamName},
+     * or {@code null} if the team has no entries
+     */
+    private LogEntry getGreatestChange(String teamName) {
+        Team team = teamsByName.get(teamName);
+        if (team == null) return null;
+
+        LogEntry result = null;
+        int id = team.getId();
+        for (int i = 0; i < teamEntryCounts[id]; i++) {
+            LogEntry entry = entries.get(teamEntries[id][i]);
+            if (result == null || Math.abs(entry.getDiff(teamName)) >= Math.abs(result.getDiff(teamName))) result = entry;
         }
 
         return result;
@@ -117,13 +220,16 @@ public class Log {
     /**
      * Gets a ({@link String}) listing of all {@link LogEntry}s for a given {@link Team}.
      * @param teamName the name of the {@link Team} to get the listing for
-     * @return a {@link String} which contains all {@link LogEntry}s which match {@code teamName},
-     * and their corresponding {@link footballer.structure.Week} numbers
+     * @return a {@link String} which contains all {@link LogEntry}s which match {@code teamName}
      */
     public String getLogForTeam(String teamName) {
         String result = teamName + " log:\n\n";
-        for (EntryPair pair : getPairsForTeam(teamName)) {
-            if (pair.entry != null) result += pair.entry + "\n";
+        Team team = teamsByName.get(teamName);
+        if (team == null) return result;
+
+        int id = team.getId();
+        for (int i = 0; i < teamEntryCounts[id]; i++) {
+            result += entries.get(teamEntries[id][i]) + "\n";
         }
         return result;
     }
@@ -132,64 +238,81 @@ public class Log {
      * Gets a given {@link Team}'s {@link Rank} values ({@link Double}s) for every {@link footballer.structure.Week} in this log.
      *
      * This method gets values for the {@link footballer.structure.Week}s which have been populated with at least one {@link LogEntry} so far.
-     * For the first {@link footballer.structure.Week}, the {@link LogEntry}'s initial value for the given {@link Team} is added as the first item in the {@link List}.
-     * For the rest of the {@link List}, the {@link LogEntry}'s new value for the given {@link Team} on that {@link footballer.structure.Week} is added to the list.
-     * The only exceptions to these rules are the rules for bye {@link footballer.structure.Week}s, which are adjusted for as follows:
-     * <ol>
-     *     <li>
-     *         If the bye {@link footballer.structure.Week} was the first week of the {@link footballer.structure.Season},
-     *         the initial value from the second week's {@link LogEntry} is added to the {@link List}.
-     *     </li>
-     *     <li>
-     *         If the bye {@link footballer.structure.Week} is any other week,
-     *         the new value from the next week's {@link LogEntry} is added to the {@link List}.
-     *     </li>
-     * </ol>
+     * The first item in the {@link List} is the given {@link Team}'s value before its first {@link LogEntry}.
+     * The rest of the {@link List} contains the team's value at the end of each {@link footballer.structure.Week}, rounded to two decimals.
+     * For a bye {@link footballer.structure.Week}, the team keeps its value from the week before (or its initial value, if it has not played yet).
      *
      * @param teamName the name of the {@link Team} to get the values for
-     * @return the {@link List} containing all the {@link Double} {@link Rank} values for the given team, adjusted for bye weeks
+     * @return the {@link List} containing all the {@link Double} {@link Rank} values for the given team, adjusted for bye weeks,
+     * or an empty list if no such team is in this log
      */
     public List<Double> getTeamValues(String teamName) {
-        List<Double> result = new ArrayList<>();
-        List<EntryPair> teamPairs = getPairsForTeam(teamName);
+        return getTeamValues(teamName, Integer.MAX_VALUE);
+    }
 
-        Double initialValue;
+    /**
+     * Gets a given {@link Team}'s {@link Rank} values as defined by {@link #getTeamValues(String)},
+     * but only for the {@link footballer.structure.Week}s up to a given week.
+     * @param teamName the name of the {@link Team} to get the values for
+     * @param upToWeek the number of the last {@link footballer.structure.Week} (inclusive) to get values for
+     * @return the {@link List} containing the {@link Double} {@link Rank} values for the given team up to {@code upToWeek},
+     * or an empty list if no such team is in this log
+     */
+    public List<Double> getTeamValues(String teamName, int upToWeek) {
+        List<Double> result = new ArrayList<>();
+        Team team = teamsByName.get(teamName);
+        if (team == null) return result;
 
-        if (teamPairs.get(0).entry == null) { // Bye week was first week so use the initial value from week 2 instead
-            initialValue = teamPairs.get(1).entry.getInitialValue(teamName);
-        } else {
-            initialValue = teamPairs.get(0).entry.getInitialValue(teamName);
+        int id = team.getId();
+        result.add(initialValues[id]); // Add the starting value as it isn't a "new" value
+        for (int row = 0; row < weekValues.size(); row++) {
+            if (weekNumbers.get(row) > upToWeek) continue;
+            result.add(Utils.roundDecimal(weekValues.get(row)[id], 2));
         }
 
-        result.add(initialValue); // Add the starting value as it isn't a "new" value
-
-        for (int i = 0; i < teamPairs.size(); i++) {
-            EntryPair pair = teamPairs.get(i);
-            if (pair.entry == null) { // Bye week so get last week's value
-                Double toAdd;
-                if (i == 0) { // First week bye week
-                    toAdd = teamPairs.get(i + 1).entry.getNewValue(teamName);
-                } else {
-                    toAdd = teamPairs.get(i - 1).entry.getNewValue(teamName);
-                }
-                result.add(Utils.roundDecimal(toAdd, 2));
-            } else {
-                result.add(Utils.roundDecimal(pair.entry.getNewValue(teamName), 2));
-            }
+        return result;
+    }
+
+    /**
+     * Gets every {@link Team}'s {@link Rank} values as defined by {@link #getTeamValues(String)}.
+     * @return a {@link Map} from each {@link Team}'s name to its values, in the same order as {@link #getTeams()}
+     */
+    public Map<String, List<Double>> getAllValues() {
+        Map<String, List<Double>> result = new LinkedHashMap<>();
+
+        for (Team team : teams) {
+            result.put(team.name, getTeamValues(team.name));
         }
 
         return result;
     }
 
-//    public Map<String, List<Double>> getAllValues() {
-//        Map<String, List<Double>> result = new HashMap<>();
-//
-//        for (Team team : teams) {
-//            result.put(team.name, getTeamValues(team.name));
-//        }
-//
-//        return result;
-//    }
+    /**
+     * Gets every {@link LogEntry} in this log.
+     * @return an unmodifiable {@link List} of every {@link LogEntry}, in the order in which they were added
+     */
+    public List<LogEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Gets the {@link LogEntry}s of a given {@link footballer.structure.Week}.
+     * @param weekNum the number of the week
+     * @return an unmodifiable {@link List} of the week's {@link LogEntry}s, in the order in which they were added,
+     * which is empty if the week has no entries
+     */
+    public List<LogEntry> getEntries(int weekNum) {
+        int row = weekNumbers.indexOf(weekNum);
+        return row < 0 ? Collections.<LogEntry>emptyList() : Collections.unmodifiableList(weekEntries.get(row));
+    }
+
+    /**
+     * Gets the numbers of the {@link footballer.structure.Week}s which have at least one {@link LogEntry} in this log.
+     * @return the {@link footballer.structure.Week} numbers, in the order in which they were added
+     */
+    public List<Integer> getWeekNumbers() {
+        return weekNumbers;
+    }
 
     /**
      * Gets the {@link List} of {@link Team}s which this rank log is keeping track of.
@@ -202,37 +325,63 @@ public class Log {
     /**
      * Gets each {@link Team}'s ranking data as defined by {@link #getTeamValues(String)} in CSV format.
      * @return the CSV-formatted data for each {@link Team} in this rank log
+     * @see #writeCSV(Writer)
      */
     public String getCSVData() {
-        String result = "";
+        StringWriter writer = new StringWriter();
+        try {
+            writeCSV(writer);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot write CSV data!", e); // Never thrown by a StringWriter
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes each {@link Team}'s ranking data as defined by {@link #getTeamValues(String)} in CSV format to an {@link OutputStream} as UTF-8.
+     * @param out the {@link OutputStream} to write to, which is flushed but not closed by this method
+     * @throws IOException if the data could not be written
+     * @see #writeCSV(Writer)
+     */
+    public void writeCSV(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCSV(writer);
+        writer.flush();
+    }
 
+    /**
+     * Writes each {@link Team}'s ranking data as defined by {@link #getTeamValues(String)} in CSV format to a {@link Writer}.
+     *
+     * The first line contains the name of each {@link Team}, and each following line contains every team's value at the end of one {@link footballer.structure.Week}.
+     * The data is written in a single pass over the values of this log, without building the output in memory.
+     *
+     * @param writer the {@link Writer} to write to, which is not flushed or closed by this method
+     * @throws IOException if the data could not be written
+     */
+    public void writeCSV(Writer writer) throws IOException {
         // Team name headers
-        for (Team team : teams) {
-            result += team.name + ",";
+        for (int i = 0; i < teams.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(teams.get(i).name);
         }
-
-        result = result.substring(0, result.length() - 1);
-        result += "\n";
+        writer.write('\n');
 
         // Team values
-        for (Integer weekNum : entriesMap.keySet()) {
-            for (Team team : teams) {
-                List<Double> teamValues = getTeamValues(team.name);
-                result += teamValues.get(weekNum) + ",";
+        for (double[] row : weekValues) {
+            for (int i = 0; i < teams.size(); i++) {
+                if (i > 0) writer.write(',');
+                writer.write(Double.toString(Utils.roundDecimal(row[teams.get(i).getId()], 2)));
             }
-            result = result.substring(0, result.length() - 1);
-            result += "\n";
+            writer.write('\n');
         }
-
-        return result;
     }
 
     @Override
     public String toString() {
         String result = "";
-        for (Integer key : entriesMap.keySet()) {
-            result += "Week " + key + ": \n\n";
-            for (LogEntry entry : entriesMap.get(key)) {
+        for (int row = 0; row < weekNumbers.size(); row++) {
+            result += "Week " + weekNumbers.get(row) + ": \n\n";
+            for (LogEntry entry : weekEntries.get(row)) {
                 result += entry + "\n";
             }
         }
@@ -1,6 +1,5 @@
 package footballer.ranking.system;
 
-import footballer.ranking.Rank;
 import footballer.ranking.logging.LogEntry;
 import footballer.ranking.RankingSystem;
 import footballer.structure.Game;
@@ -8,34 +7,40 @@ import footballer.structure.Team;
 import java.util.List;
 
 public class AdjustedWins extends RankingSystem {
+    private final double higherRatio;
+
     public AdjustedWins(List<Team> teams) {
+        this(teams, 0.57);
+    }
+
+    public AdjustedWins(List<Team> teams, double higherRatio) {
         super(teams);
+        this.higherRatio = higherRatio;
     }
 
     public LogEntry applyGame(Game game) {
         // Determine the favorite and underdog based on which team has the higher rank before any calculations
-        Rank favorite = getGreaterRank(game.homeTeam, game.awayTeam);
-        Rank underdog = favorite.team == game.homeTeam ? getRank(game.awayTeam.name) : getRank(game.homeTeam.name);
+        Team favorite = getGreaterTeam(game.homeTeam, game.awayTeam);
+        Team underdog = favorite == game.homeTeam ? game.awayTeam : game.homeTeam;
 
-        double higherRatio = 0.57;
         double lowerRatio = 1 - higherRatio;
 
-        double favoriteInitial = favorite.getValue();
-        double underdogInitial = underdog.getValue();
+        double favoriteInitial = values[favorite.getId()];
+        double underdogInitial = values[underdog.getId()];
 
         double favoriteNew = favoriteInitial;
         double underdogNew = underdogInitial;
 
-        if (game.getWinner() == favorite.team) { // Favorite wins
-            if (game.homeTeam == favorite.team) {
+        if (game.getWinner() == favorite) { // Favorite wins
+            if (game.homeTeam == favorite) {
                 favoriteNew = favoriteInitial + lowerRatio;
                 underdogNew = underdogInitial - lowerRatio;
             } else {
                 favoriteNew = favoriteInitial + higherRatio;
                 underdogNew = underdogInitial - higherRatio;
             }
-        } else if (game.getWinner() == underdog.team) { // Underdog wins (upset)
-            if (game.homeTeam == underdog.team) {
+        } else if (game.getWinner() == underdog) { // Underdog wins (upset)
+            if (game.homeTeam == underdog) {
                 favoriteNew = favoriteInitial - lowerRatio;
                 underdogNew = underdogInitial + lowerRatio;
             } else {
@@ -44,9 +49,9 @@ public class AdjustedWins extends RankingSystem {
             }
         }
 
-        favorite.setValue(favoriteNew);
-        underdog.setValue(underdogNew);
+        values[favorite.getId()] = favoriteNew;
+        values[underdog.getId()] = underdogNew;
 
-        return new LogEntry(game, favorite.team, underdog.team, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
+        return new LogEntry(game, favorite, underdog, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
     }
 }
@@ -0,0 +1,155 @@
+package footballer.ranking.system;
+
+import java.util.Arrays;
+import java.util.List;
+import footballer.ranking.logging.LogEntry;
+import footballer.ranking.RankingSystem;
+import footballer.structure.Game;
+import footballer.structure.Team;
+import footballer.structure.Week;
+
+/**
+ * Ranks {@link Team}s with the Colley matrix method, which only uses wins and losses (not scores).
+ *
+ * <h2>Methodology</h2>
+ * <ul>
+ *     <li>
+ *         The ratings are the solution of {@code C * rating = b}, where the Colley matrix {@code C} has {@code 2 + games} on the diagonal
+ *         and minus the number of games between each pair of teams off of it, and {@code b = 1 + (wins - losses) / 2} for each team.
+ *     </li>
+ *     <li>
+ *         Before any games, {@code C} is {@code 2} times the identity, and each game between teams {@code i} and {@code j} adds {@code v * v^T}
+ *         to it, where {@code v = e_i - e_j}.
+ *         So instead of factoring {@code C} again every week, its Cholesky factor is updated in place with a rank-one update for each played {@link Game}.
+ *     </li>
+ *     <li>At the end of each {@link Week}, the ratings are solved with one forward and one backward substitution through the factor.</li>
+ *     <li>Ratings start at {@code 0.5} (the solution without any games), average {@code 0.5}, and only change at the end of each week, so each {@link LogEntry} has the same initial and new values.</li>
+ * </ul>
+ */
+public class Colley extends RankingSystem {
+    private final int size;
+
+    /** The lower triangular Cholesky factor of the Colley matrix, flattened as {@code [row * size + column]}. */
+    private final double[] factor;
+    /** The right hand side {@code b} of the Colley system, indexed by {@link Team#getId()}. */
+    private final double[] rightHandSide;
+
+    /** Scratch vectors for updating the factor and solving, reused between games and weeks. */
+    private final double[] update;
+    private final double[] forward;
+
+    public Colley(List<Team> teams) {
+        super(teams);
+        size = values.length;
+        factor = new double[size * size];
+        rightHandSide = new double[size];
+        update = new double[size];
+        forward = new double[size];
+        reset();
+        Arrays.fill(values, 0.5);
+    }
+
+    @Override
+    protected LogEntry applyGame(Game game) {
+        Team favorite = getGreaterTeam(game.homeTeam, game.awayTeam);
+        Team underdog = favorite == game.homeTeam ? game.awayTeam : game.homeTeam;
+
+        double favoriteValue = values[favorite.getId()];
+        double underdogValue = values[underdog.getId()];
+
+        if (game.isPlayed()) addGame(game);
+
+        return new LogEntry(game, favorite, underdog, favoriteValue, favoriteValue, underdogValue, underdogValue);
+    }
+
+    @Override
+    protected void finishWeek(Week week) {
+        solve();
+    }
+
+    /**
+     * Rewinds this ranking system as defined by {@link RankingSystem#rewind(int)},
+     * and rebuilds the Cholesky factor and right hand side from the games which remain in the {@link footballer.ranking.logging.Log}.
+     * @param weekNum the number of the last {@link Week} to keep ({@code 0} to rewind to the baseline ratings)
+     */
+    @Override
+    public void rewind(int weekNum) {
+        if (weekNum >= getLastAppliedWeek()) return;
+        super.rewind(weekNum);
+
+        reset();
+        for (LogEntry entry : log.getEntries()) {
+            if (entry.game.isPlayed()) addGame(entry.game);
+        }
+    }
+
+    /**
+     * Resets the Cholesky factor to that of the Colley matrix without any games ({@code sqrt(2)} times the identity), and {@code b} to {@code 1}.
+     */
+    private void reset() {
+        Arrays.fill(factor, 0);
+        for (int i = 0; i < size; i++) factor[i * size + i] = Math.sqrt(2);
+        Arrays.fill(rightHandSide, 1);
+    }
+
+    /**
+     * Adds a played {@link Game} to the Cholesky factor and right hand side.
+     */
+    private void addGame(Game game) {
+        int home = game.homeTeam.getId();
+        int away = game.awayTeam.getId();
+
+        Team winner = game.getWinner();
+        if (winner == game.homeTeam) {
+            rightHandSide[home] += 0.5;
+            rightHandSide[away] -= 0.5;
+        } else if (winner == game.awayTeam) {
+            rightHandSide[away] += 0.5;
+            rightHandSide[home] -= 0.5;
+        }
+
+        Arrays.fill(update, 0);
+        update[home] = 1;
+        update[away] = -1;
+        rankOneUpdate(Math.min(home, away));
+    }
+
+    /**
+     * Updates the Cholesky factor {@code L} so that {@code L * L^T} becomes {@code L * L^T + x * x^T}, where {@code x} is {@link #update}.
+     * @param first the first index at which {@code x} is not zero, since the columns before it do not change
+     */
+    private void rankOneUpdate(int first) {
+        for (int k = first; k < size; k++) {
+            double diagonal = factor[k * size + k];
+            double x = update[k];
+            if (x == 0) continue;
+
+            double r = Math.sqrt(diagonal * diagonal + x * x);
+            double c = r / diagonal;
+            double s = x / diagonal;
+            factor[k * size + k] = r;
+
+            for (int i = k + 1; i < size; i++) {
+                double l = (factor[i * size + k] + s * update[i]) / c;
+                factor[i * size + k] = l;
+                update[i] = c * update[i] - s * l;
+            }
+        }
+    }
+
+    /**
+     * Solves {@code L * L^T * rating = b} for the ratings by forward and backward substitution.
+     */
+    private void solve() {
+        for (int i = 0; i < size; i++) {
+            double sum = rightHandSide[i];
+            for (int k = 0; k < i; k++) sum -= factor[i * size + k] * forward[k];
+            forward[i] = sum / factor[i * size + i];
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            double sum = forward[i];
+            for (int k = i + 1; k < size; k++) sum -= factor[k * size + i] * values[k];
+            values[i] = sum / factor[i * size + i];
+        }
+    }
+}
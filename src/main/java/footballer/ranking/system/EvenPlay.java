@@ -1,7 +1,6 @@
 package footballer.ranking.system;
 
 import java.util.List;
-import footballer.ranking.Rank;
 import footballer.ranking.logging.LogEntry;
 import footballer.ranking.RankingSystem;
 import footballer.structure.Game;
@@ -18,30 +17,30 @@ public class EvenPlay extends RankingSystem {
     @Override
     protected LogEntry applyGame(Game game) {
         // Determine the favorite and underdog based on which team has the higher rank before any calculations
-        Rank favorite = getGreaterRank(game.homeTeam, game.awayTeam);
-        Rank underdog = favorite.team == game.homeTeam ? getRank(game.awayTeam.name) : getRank(game.homeTeam.name);
+        Team favorite = getGreaterTeam(game.homeTeam, game.awayTeam);
+        Team underdog = favorite == game.homeTeam ? game.awayTeam : game.homeTeam;
 
-        double ratio1 = underdog.getValue() / favorite.getValue();
+        double favoriteInitial = values[favorite.getId()];
+        double underdogInitial = values[underdog.getId()];
+
+        double ratio1 = underdogInitial / favoriteInitial;
         double ratio2 = 1 - ratio1;
 
         double higherRatio = ratio1 > ratio2 ? ratio1 : ratio2;
         double lowerRatio = 1 - higherRatio;
 
-        double favoriteInitial = favorite.getValue();
-        double underdogInitial = underdog.getValue();
-
         double favoriteNew = favoriteInitial;
         double underdogNew = underdogInitial;
 
-        double diff = favorite.getValue() - underdog.getValue();
+        double diff = favoriteInitial - underdogInitial;
 
         double increment = dampener;
 
-        if (game.getWinner() == favorite.team) { // Favorite wins
+        if (game.getWinner() == favorite) { // Favorite wins
             increment *= lowerRatio * diff;
             favoriteNew = favoriteInitial + increment + 1; // Reward points to favorite
             underdogNew = underdogInitial - increment - 1; // Deduct points from underdog
-        } else if (game.getWinner() == underdog.team) { // Underdog wins (upset)
+        } else if (game.getWinner() == underdog) { // Underdog wins (upset)
             increment *= higherRatio * diff;
             favoriteNew = favoriteInitial - increment - 1; // Deduct points from favorite
             underdogNew = underdogInitial + increment + 1; // Reward points to underdog
@@ -51,9 +50,9 @@ public class EvenPlay extends RankingSystem {
         if (favoriteNew < 1) favoriteNew = 1;
         if (underdogNew < 1) underdogNew = 1;
 
-        favorite.setValue(favoriteNew);
-        underdog.setValue(underdogNew);
+        values[favorite.getId()] = favoriteNew;
+        values[underdog.getId()] = underdogNew;
 
-        return new LogEntry(game, favorite.team, underdog.team, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
+        return new LogEntry(game, favorite, underdog, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
     }
 }
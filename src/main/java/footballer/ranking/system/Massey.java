@@ -0,0 +1,191 @@
+package footballer.ranking.system;
+
+import java.util.Arrays;
+import java.util.List;
+import footballer.ranking.logging.LogEntry;
+import footballer.ranking.RankingSystem;
+import footballer.structure.Game;
+import footballer.structure.Team;
+import footballer.structure.Week;
+
+/**
+ * Ranks {@link Team}s with Massey ratings, which are the least squares solution to {@code rating[home] - rating[away] = margin} over every game so far.
+ *
+ * <h2>Methodology</h2>
+ * <ul>
+ *     <li>
+ *         Each played {@link Game} adds to the Massey matrix (the number of games of each team on the diagonal, and minus the number of games
+ *         between each pair of teams off of it) and to the point differential of each team.
+ *     </li>
+ *     <li>
+ *         At the end of each {@link Week}, the ratings are solved from the matrix and point differentials with the conjugate gradient method.
+ *         The matrix only has an entry for each pair of teams which have played, so it is kept sparse,
+ *         and the solve starts from the previous week's ratings, so it usually converges in a few iterations.
+ *     </li>
+ *     <li>
+ *         The matrix is singular (adding the same amount to every rating changes nothing), so the ratings keep the average of their baseline values.
+ *         The baseline values should therefore all be the same, such as {@code 0}.
+ *     </li>
+ *     <li>Ratings only change at the end of each week, so each {@link LogEntry} has the same initial and new values.</li>
+ * </ul>
+ */
+public class Massey extends RankingSystem {
+    /** The residual (relative to the point differentials) at which the conjugate gradient method stops. */
+    private static final double TOLERANCE = 1e-10;
+
+    private final int size;
+
+    /** The number of played games of each team, which is the diagonal of the Massey matrix. */
+    private final int[] gameCounts;
+    /** The opponents of each team, which are the off-diagonal entries of each row of the Massey matrix, indexed by {@link Team#getId()}. */
+    private final int[][] opponents;
+    /** The number of played games against each opponent in the same position of {@link #opponents}. */
+    private final int[][] meetings;
+    /** The number of entries in use in each row of {@link #opponents} and {@link #meetings}. */
+    private final int[] opponentCounts;
+    /** The total point differential of each team. */
+    private final double[] pointDiffs;
+
+    /** Scratch vectors for the conjugate gradient method, reused between weeks. */
+    private final double[] residual;
+    private final double[] direction;
+    private final double[] product;
+
+    public Massey(List<Team> teams) {
+        super(teams);
+        size = values.length;
+        gameCounts = new int[size];
+        opponents = new int[size][];
+        meetings = new int[size][];
+        opponentCounts = new int[size];
+        pointDiffs = new double[size];
+        residual = new double[size];
+        direction = new double[size];
+        product = new double[size];
+        for (int id = 0; id < size; id++) {
+            opponents[id] = new int[4];
+            meetings[id] = new int[4];
+        }
+    }
+
+    @Override
+    protected LogEntry applyGame(Game game) {
+        Team favorite = getGreaterTeam(game.homeTeam, game.awayTeam);
+        Team underdog = favorite == game.homeTeam ? game.awayTeam : game.homeTeam;
+
+        double favoriteValue = values[favorite.getId()];
+        double underdogValue = values[underdog.getId()];
+
+        if (game.isPlayed()) addGame(game);
+
+        return new LogEntry(game, favorite, underdog, favoriteValue, favoriteValue, underdogValue, underdogValue);
+    }
+
+    @Override
+    protected void finishWeek(Week week) {
+        solve();
+    }
+
+    /**
+     * Rewinds this ranking system as defined by {@link RankingSystem#rewind(int)},
+     * and rebuilds the Massey matrix and point differentials from the games which remain in the {@link footballer.ranking.logging.Log}.
+     * @param weekNum the number of the last {@link Week} to keep ({@code 0} to rewind to the baseline ratings)
+     */
+    @Override
+    public void rewind(int weekNum) {
+        if (weekNum >= getLastAppliedWeek()) return;
+        super.rewind(weekNum);
+
+        Arrays.fill(gameCounts, 0);
+        Arrays.fill(opponentCounts, 0);
+        Arrays.fill(pointDiffs, 0);
+        for (LogEntry entry : log.getEntries()) {
+            if (entry.game.isPlayed()) addGame(entry.game);
+        }
+    }
+
+    /**
+     * Adds a played {@link Game} to the Massey matrix and point differentials.
+     */
+    private void addGame(Game game) {
+        int home = game.homeTeam.getId();
+        int away = game.awayTeam.getId();
+        int margin = game.homeTeamScore - game.awayTeamScore;
+
+        gameCounts[home]++;
+        gameCounts[away]++;
+        addMeeting(home, away);
+        addMeeting(away, home);
+        pointDiffs[home] += margin;
+        pointDiffs[away] -= margin;
+    }
+
+    private void addMeeting(int id, int opponent) {
+        for (int i = 0; i < opponentCounts[id]; i++) {
+            if (opponents[id][i] == opponent) {
+                meetings[id][i]++;
+                return;
+            }
+        }
+
+        if (opponentCounts[id] == opponents[id].length) {
+            opponents[id] = Arrays.copyOf(opponents[id], opponents[id].length * 2);
+            meetings[id] = Arrays.copyOf(meetings[id], meetings[id].length * 2);
+        }
+        opponents[id][opponentCounts[id]] = opponent;
+        meetings[id][opponentCounts[id]] = 1;
+        opponentCounts[id]++;
+    }
+
+    /**
+     * Multiplies the Massey matrix by a vector.
+     * @param vector the vector to multiply, indexed by {@link Team#getId()}
+     * @param result the array to store the product in
+     */
+    private void multiply(double[] vector, double[] result) {
+        for (int id = 0; id < size; id++) {
+            double sum = gameCounts[id] * vector[id];
+            for (int i = 0; i < opponentCounts[id]; i++) sum -= meetings[id][i] * vector[opponents[id][i]];
+            result[id] = sum;
+        }
+    }
+
+    /**
+     * Solves the Massey matrix for the ratings with the conjugate gradient method, starting from the current ratings.
+     * The point differentials always sum to zero within each group of teams which have played each other,
+     * so the system is consistent even though the matrix is singular, and the method converges.
+     */
+    private void solve() {
+        double target = TOLERANCE * TOLERANCE * Math.max(dot(pointDiffs, pointDiffs), 1);
+
+        multiply(values, product);
+        for (int id = 0; id < size; id++) {
+            residual[id] = pointDiffs[id] - product[id];
+            direction[id] = residual[id];
+        }
+        double residualNorm = dot(residual, residual);
+
+        for (int iteration = 0; iteration < size && residualNorm > target; iteration++) {
+            multiply(direction, product);
+            double curvature = dot(direction, product);
+            if (curvature <= 0) break;
+
+            double step = residualNorm / curvature;
+            for (int id = 0; id < size; id++) {
+                values[id] += step * direction[id];
+                residual[id] -= step * product[id];
+            }
+
+            double nextNorm = dot(residual, residual);
+            double beta = nextNorm / residualNorm;
+            for (int id = 0; id < size; id++) direction[id] = residual[id] + beta * direction[id];
+            residualNorm = nextNorm;
+        }
+    }
+
+    private static double dot(double[] first, double[] second) {
+        double sum = 0;
+        for (int i = 0; i < first.length; i++) sum += first[i] * second[i];
+        return sum;
+    }
+}
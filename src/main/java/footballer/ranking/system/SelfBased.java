@@ -1,6 +1,5 @@
 package footballer.ranking.system;
 
-import footballer.ranking.Rank;
 import footballer.ranking.logging.LogEntry;
 import footballer.ranking.RankingSystem;
 import footballer.structure.Game;
@@ -16,24 +15,24 @@ public class SelfBased extends RankingSystem {
     @Override
     protected LogEntry applyGame(Game game) {
         // Determine the favorite and underdog based on which team has the higher rank before any calculations
-        Rank favorite = getGreaterRank(game.homeTeam, game.awayTeam);
-        Rank underdog = favorite.team == game.homeTeam ? getRank(game.awayTeam.name) : getRank(game.homeTeam.name);
+        Team favorite = getGreaterTeam(game.homeTeam, game.awayTeam);
+        Team underdog = favorite == game.homeTeam ? game.awayTeam : game.homeTeam;
 
-        double percentDiff = percentDiff(favorite, underdog);
+        double favoriteInitial = values[favorite.getId()];
+        double underdogInitial = values[underdog.getId()];
 
-        double favoriteInitial = favorite.getValue();
-        double underdogInitial = underdog.getValue();
+        double percentDiff = percentDiff(favoriteInitial, underdogInitial);
 
         double favoriteNew = favoriteInitial;
         double underdogNew = underdogInitial;
 
         double increment;
 
-        if (game.getWinner() == favorite.team) { // Favorite wins
+        if (game.getWinner() == favorite) { // Favorite wins
             increment = underdogInitial * percentDiff;
             favoriteNew = favoriteInitial + increment + 1; // Reward points to favorite
             underdogNew = underdogInitial - increment - 1; // Deduct points from underdog
-        } else if (game.getWinner() == underdog.team) { // Underdog wins (upset)
+        } else if (game.getWinner() == underdog) { // Underdog wins (upset)
             increment = favoriteInitial * percentDiff;
             favoriteNew = favoriteInitial - increment - 1; // Deduct points from favorite
             underdogNew = underdogInitial + increment + 1; // Reward points to underdog
@@ -43,14 +42,14 @@ public class SelfBased extends RankingSystem {
         if (favoriteNew < 1) favoriteNew = 1;
         if (underdogNew < 1) underdogNew = 1;
 
-        favorite.setValue(favoriteNew);
-        underdog.setValue(underdogNew);
+        values[favorite.getId()] = favoriteNew;
+        values[underdog.getId()] = underdogNew;
 
-        return new LogEntry(game, favorite.team, underdog.team, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
+        return new LogEntry(game, favorite, underdog, favoriteInitial, favoriteNew, underdogInitial, underdogNew);
     }
 
-    protected double percentDiff(Rank rank1, Rank rank2) {
-        return Math.abs((rank1.getValue() - rank2.getValue()) / ((rank1.getValue() + rank2.getValue()) / 2));
+    protected double percentDiff(double value1, double value2) {
+        return Math.abs((value1 - value2) / ((value1 + value2) / 2));
     }
 
 }
@@ -0,0 +1,154 @@
+package footballer.ranking.tuning;
+
+import footballer.Utils;
+
+/**
+ * Defines the results of backtesting a {@link footballer.ranking.RankingSystem} with a {@link Backtester}.
+ *
+ * A prediction is made for every decided {@link footballer.structure.Game} (one which was not a tie) whose {@link footballer.structure.Team}s had different
+ * {@link footballer.ranking.Rank}s before the game, and it is correct if the favorite won.
+ * Predictions are also counted by {@link footballer.structure.Week}, and by calibration bucket,
+ * where the bucket of a prediction is determined by how many places apart the two teams were in the league rankings at the start of the week.
+ * A ranking system is well calibrated if its hit rate rises with the bucket.
+ */
+public class BacktestResult {
+    /** The number of league ranking places covered by each calibration bucket. */
+    public static final int BUCKET_WIDTH = 4;
+    /** The number of calibration buckets, which is enough to cover the greatest gap in a league of {@code 32} teams. */
+    public static final int BUCKET_COUNT = 8;
+    /** The number of weeks which can be counted, which covers the longest regular season. */
+    private static final int MAX_WEEKS = 18;
+
+    public final String rankingSystemName;
+
+    private int seasons;
+    private int games;
+    private int predictions;
+    private int correct;
+    private final int[] bucketPredictions = new int[BUCKET_COUNT];
+    private final int[] bucketCorrect = new int[BUCKET_COUNT];
+    private final int[] weekPredictions = new int[MAX_WEEKS + 1];
+    private final int[] weekCorrect = new int[MAX_WEEKS + 1];
+
+    public BacktestResult(String rankingSystemName) {
+        this.rankingSystemName = rankingSystemName;
+    }
+
+    /**
+     * Records that a whole {@link footballer.structure.Season} has been backtested.
+     */
+    void addSeason() {
+        seasons++;
+    }
+
+    /**
+     * Records a decided {@link footballer.structure.Game} for which no prediction could be made, because both teams had the same {@link footballer.ranking.Rank}.
+     */
+    void addUnpredicted() {
+        games++;
+    }
+
+    /**
+     * Records a prediction.
+     * @param weekNum the number of the {@link footballer.structure.Week} of the game
+     * @param gap the number of league ranking places between the favorite and the underdog at the start of the week
+     * @param hit whether the favorite won
+     */
+    void addPrediction(int weekNum, int gap, boolean hit) {
+        int bucket = Math.min(gap / BUCKET_WIDTH, BUCKET_COUNT - 1);
+        int week = Math.min(weekNum, MAX_WEEKS);
+        int score = hit ? 1 : 0;
+
+        games++;
+        predictions++;
+        correct += score;
+        bucketPredictions[bucket]++;
+        bucketCorrect[bucket] += score;
+        weekPredictions[week]++;
+        weekCorrect[week] += score;
+    }
+
+    /**
+     * Adds the counts of another result for the same {@link footballer.ranking.RankingSystem} to this result.
+     * @param other the {@link BacktestResult} to add
+     * @return this result
+     */
+    public BacktestResult merge(BacktestResult other) {
+        seasons += other.seasons;
+        games += other.games;
+        predictions += other.predictions;
+        correct += other.correct;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketPredictions[i] += other.bucketPredictions[i];
+            bucketCorrect[i] += other.bucketCorrect[i];
+        }
+        for (int i = 0; i <= MAX_WEEKS; i++) {
+            weekPredictions[i] += other.weekPredictions[i];
+            weekCorrect[i] += other.weekCorrect[i];
+        }
+        return this;
+    }
+
+    public int getSeasons() {
+        return seasons;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getPredictions() {
+        return predictions;
+    }
+
+    /**
+     * Gets the fraction of predictions which were correct.
+     * @return the hit rate, or {@code 0} if no predictions were made
+     */
+    public double getHitRate() {
+        return rate(correct, predictions);
+    }
+
+    /**
+     * Gets the number of predictions in a calibration bucket.
+     * @param bucket the index of the bucket, from {@code 0} (the closest matchups) to {@link #BUCKET_COUNT} (exclusive)
+     * @return the number of predictions in {@code bucket}
+     */
+    public int getBucketPredictions(int bucket) {
+        return bucketPredictions[bucket];
+    }
+
+    /**
+     * Gets the fraction of predictions in a calibration bucket which were correct.
+     * @param bucket the index of the bucket, from {@code 0} (the closest matchups) to {@link #BUCKET_COUNT} (exclusive)
+     * @return the hit rate of {@code bucket}, or {@code 0} if it has no predictions
+     */
+    public double getBucketHitRate(int bucket) {
+        return rate(bucketCorrect[bucket], bucketPredictions[bucket]);
+    }
+
+    /**
+     * Gets the fraction of predictions in a given {@link footballer.structure.Week} which were correct.
+     * @param weekNum the number of the week
+     * @return the hit rate of the week, or {@code 0} if it has no predictions
+     */
+    public double getWeekHitRate(int weekNum) {
+        if (weekNum < 0 || weekNum > MAX_WEEKS) return 0;
+        return rate(weekCorrect[weekNum], weekPredictions[weekNum]);
+    }
+
+    private static double rate(int hits, int total) {
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        String result = "#BacktestResult<" + rankingSystemName + ", Seasons: " + seasons + ", Games: " + games
+                + ", Predictions: " + predictions + ", Hit Rate: " + Utils.roundDecimal(getHitRate(), 4) + ", Calibration: [";
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (i > 0) result += ", ";
+            result += (i * BUCKET_WIDTH) + "+: " + Utils.roundDecimal(getBucketHitRate(i), 3) + " (" + bucketPredictions[i] + ")";
+        }
+        return result + "]>";
+    }
+}
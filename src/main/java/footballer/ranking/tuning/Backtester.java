@@ -0,0 +1,120 @@
+package footballer.ranking.tuning;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import footballer.Utils;
+import footballer.parse.Parser;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.ranking.logging.LogEntry;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import footballer.structure.Week;
+
+/**
+ * Scores {@link RankingSystem}s by how well they predict the winners of {@link footballer.structure.Game}s before they are played.
+ *
+ * A {@link Season} is walked one {@link Week} at a time.
+ * At the start of each week the league ranking place of every {@link Team} is taken from the current {@link footballer.ranking.Rank}s,
+ * then the week is applied and each game's favorite (the team with the greater rank before the game, see {@link LogEntry}) is taken as the prediction.
+ * Every pair of season and ranking system is independent, so they are all backtested in parallel.
+ */
+public class Backtester {
+    /** The first season with the current league structure. */
+    public static final int FIRST_YEAR = 2002;
+
+    /**
+     * Backtests every {@link RankingSystem} over a range of seasons and prints the results.
+     * @param args the first and last years (inclusive) to backtest, which default to {@link #FIRST_YEAR} and last year
+     */
+    public static void main(String[] args) {
+        int firstYear = args.length > 0 ? Integer.parseInt(args[0]) : FIRST_YEAR;
+        int lastYear = args.length > 1 ? Integer.parseInt(args[1]) : LocalDate.now().getYear() - 1;
+
+        List<Season> seasons = new ArrayList<>();
+        for (int year = firstYear; year <= lastYear; year++) {
+            seasons.add(Parser.parseCurrentStructure(year, Utils.getRegularSeasonWeeks(year), true));
+        }
+
+        for (BacktestResult result : backtest(seasons, RankingSystems.names).values()) {
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Backtests several {@link RankingSystem}s over several {@link Season}s in parallel.
+     * The {@link Season}s are shared by every backtest, so they must not be modified while this method is running.
+     * @param seasons the {@link Season}s to backtest over
+     * @param rankingSystemNames the names of the {@link RankingSystem}s to backtest (see {@link RankingSystems#names})
+     * @return a {@link Map} from each ranking system name to its {@link BacktestResult} over every season, in the order of {@code rankingSystemNames}
+     */
+    public static Map<String, BacktestResult> backtest(List<Season> seasons, String[] rankingSystemNames) {
+        List<BacktestResult> results = seasons.parallelStream()
+                .flatMap(season -> Arrays.stream(rankingSystemNames).parallel().map(name -> backtest(season, name)))
+                .collect(Collectors.toList());
+
+        Map<String, BacktestResult> merged = new LinkedHashMap<>();
+        for (String name : rankingSystemNames) merged.put(name, new BacktestResult(name));
+        for (BacktestResult result : results) merged.get(result.rankingSystemName).merge(result);
+        return merged;
+    }
+
+    /**
+     * Backtests a single {@link RankingSystem} over a single {@link Season}.
+     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches {@code rankingSystemName} can be found.
+     * @param season the {@link Season} to backtest over
+     * @param rankingSystemName the name of the {@link RankingSystem} (see {@link RankingSystems#create(Season, String)})
+     * @return the {@link BacktestResult} of the ranking system over the season
+     */
+    public static BacktestResult backtest(Season season, String rankingSystemName) {
+        RankingSystem rankingSystem = RankingSystems.create(season, rankingSystemName);
+        BacktestResult result = new BacktestResult(rankingSystemName);
+        List<Team> teams = season.getTeams();
+        double[] values = new double[teams.size()];
+        int[] places = new int[teams.size()];
+
+        for (Week week : season.getWeeks()) {
+            for (Team team : teams) values[team.getId()] = rankingSystem.getRank(team).getValue();
+            rankPlaces(teams, values, places);
+
+            rankingSystem.applyGames(season, week.number);
+
+            for (LogEntry entry : rankingSystem.getLog().getEntries(week.number)) {
+                Team winner = entry.game.getWinner();
+                if (winner == null) continue;
+
+                if (entry.favoriteInitial == entry.underdogInitial) {
+                    result.addUnpredicted();
+                } else {
+                    int gap = Math.abs(places[entry.favorite.getId()] - places[entry.underdog.getId()]);
+                    result.addPrediction(week.number, gap, winner == entry.favorite);
+                }
+            }
+        }
+
+        result.addSeason();
+        return result;
+    }
+
+    /**
+     * Determines the league ranking place of every {@link Team}, where the team with the greatest value is in place {@code 0}
+     * and teams with equal values share a place.
+     * @param teams the {@link Team}s to place
+     * @param values the {@link footballer.ranking.Rank} value of each {@link Team}, indexed by {@link Team#getId()}
+     * @param places the array to fill in with the place of each {@link Team}, indexed by {@link Team#getId()}
+     */
+    private static void rankPlaces(List<Team> teams, double[] values, int[] places) {
+        for (Team team : teams) {
+            int place = 0;
+            for (Team other : teams) {
+                if (values[other.getId()] > values[team.getId()]) place++;
+            }
+            places[team.getId()] = place;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package footballer.ranking.tuning;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines a grid of parameter values to be swept by a {@link ParameterSweep}.
+ *
+ * Each parameter has a name and a list of values, and the grid contains every combination of values.
+ * Combinations are identified by an index from {@code 0} to {@link #size()} (exclusive), with the last parameter changing fastest.
+ */
+public class ParameterGrid {
+    private final List<String> names = new ArrayList<>();
+    private final List<double[]> values = new ArrayList<>();
+
+    /**
+     * Adds a parameter to this grid.
+     * @param name the name of the parameter
+     * @param parameterValues the values of the parameter to try
+     * @return this grid
+     */
+    public ParameterGrid add(String name, double... parameterValues) {
+        if (parameterValues.length == 0) throw new IllegalArgumentException("Parameter has no values: " + name + "!");
+        names.add(name);
+        values.add(parameterValues.clone());
+        return this;
+    }
+
+    /**
+     * Adds a parameter to this grid with evenly spaced values.
+     * @param name the name of the parameter
+     * @param start the first value of the parameter
+     * @param end the last value of the parameter (inclusive, if it is reached by a whole number of steps)
+     * @param step the difference between successive values, which must be positive
+     * @return this grid
+     */
+    public ParameterGrid addRange(String name, double start, double end, double step) {
+        if (step <= 0) throw new IllegalArgumentException("Step must be positive: " + name + "!");
+        int count = (int) Math.floor((end - start) / step + 1e-9) + 1;
+        double[] range = new double[Math.max(count, 1)];
+        for (int i = 0; i < range.length; i++) range[i] = Math.round((start + i * step) * 1e9) / 1e9; // Drop floating point drift like 0.30000000000000004
+        return add(name, range);
+    }
+
+    /**
+     * Gets the number of combinations in this grid.
+     * @return the product of the number of values of every parameter
+     */
+    public int size() {
+        int size = 1;
+        for (double[] parameterValues : values) size = Math.multiplyExact(size, parameterValues.length);
+        return size;
+    }
+
+    /**
+     * Gets the names of the parameters in this grid.
+     * @return the names of the parameters, in the order in which they were added
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Gets a combination of parameter values.
+     * @param index the index of the combination
+     * @return the value of each parameter in the combination, in the order in which the parameters were added
+     */
+    public double[] get(int index) {
+        double[] combination = new double[values.size()];
+        for (int i = values.size() - 1; i >= 0; i--) {
+            double[] parameterValues = values.get(i);
+            combination[i] = parameterValues[index % parameterValues.length];
+            index /= parameterValues.length;
+        }
+        return combination;
+    }
+
+    /**
+     * Gets a combination of parameter values by name.
+     * @param combination the value of each parameter, as returned by {@link #get(int)}
+     * @return a {@link Map} from each parameter's name to its value, in the order in which the parameters were added
+     */
+    public Map<String, Double> toMap(double[] combination) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) result.put(names.get(i), combination[i]);
+        return result;
+    }
+}
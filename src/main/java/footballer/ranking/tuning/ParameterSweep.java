@@ -0,0 +1,118 @@
+package footballer.ranking.tuning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import footballer.ranking.RankingSystem;
+import footballer.structure.Season;
+
+/**
+ * Runs a {@link RankingSystem} over a {@link Season} for every combination of parameters in a {@link ParameterGrid}, and scores each run.
+ *
+ * Every combination gets its own {@link RankingSystem}, so the runs are independent and are split across all cores with fork-join.
+ * The {@link Season} is shared by every run, so it must not be modified while a sweep is running.
+ *
+ * <h2>Example</h2>
+ * Sweeping the {@code dampener} of {@link footballer.ranking.system.EvenPlay} along with the baseline {@link footballer.ranking.Rank}s:
+ * <pre>{@code
+ * ParameterGrid grid = new ParameterGrid()
+ *         .addRange("dampener", 0.1, 2.0, 0.1)
+ *         .addRange("increment", 0, 1, 0.25)
+ *         .add("max", 16, 32);
+ * List<SweepResult> results = new ParameterSweep().run(season, grid, parameters -> {
+ *     RankingSystem system = new EvenPlay(season.getTeams(), parameters[0]);
+ *     system.generateBaselineRanks(Utils.espnPreseasonRankings2017, parameters[1], parameters[2]);
+ *     return system;
+ * }, SweepMetrics::predictionAccuracy);
+ * }</pre>
+ */
+public class ParameterSweep {
+    /** The number of combinations below which a fork-join task runs its combinations itself instead of splitting. */
+    private static final int SPLIT_THRESHOLD = 8;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a parameter sweep which runs on the common fork-join pool.
+     */
+    public ParameterSweep() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parameter sweep which runs on a given fork-join pool.
+     * @param pool the {@link ForkJoinPool} to run the sweep on
+     */
+    public ParameterSweep(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Runs a sweep.
+     * @param season the {@link Season} whose {@link footballer.structure.Game}s are applied to every {@link RankingSystem}
+     * @param grid the {@link ParameterGrid} of combinations to try
+     * @param factory the function which creates a new, ready to apply {@link RankingSystem} from a combination of parameter values
+     * (in the order of {@link ParameterGrid#getNames()})
+     * @param metric the function which scores a {@link RankingSystem} after the {@link Season} has been applied to it, where higher is better
+     * @return a {@link SweepResult} for every combination, ordered from the best score to the worst
+     */
+    public List<SweepResult> run(Season season, ParameterGrid grid, Function<double[], RankingSystem> factory, ToDoubleFunction<RankingSystem> metric) {
+        int size = grid.size();
+        double[] scores = new double[size];
+
+        pool.invoke(new SweepTask(season, grid, factory, metric, scores, 0, size));
+
+        List<SweepResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new SweepResult(grid.toMap(grid.get(i)), scores[i]));
+        }
+        results.sort(SweepResult.scoreComparator);
+        return results;
+    }
+
+    /**
+     * Scores a range of combinations, splitting the range in half until it is small enough.
+     */
+    private static class SweepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Season season;
+        private final ParameterGrid grid;
+        private final Function<double[], RankingSystem> factory;
+        private final ToDoubleFunction<RankingSystem> metric;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+
+        SweepTask(Season season, ParameterGrid grid, Function<double[], RankingSystem> factory, ToDoubleFunction<RankingSystem> metric,
+                  double[] scores, int from, int to) {
+            this.season = season;
+            this.grid = grid;
+            this.factory = factory;
+            this.metric = metric;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    RankingSystem system = factory.apply(grid.get(i));
+                    system.applyGames(season);
+                    scores[i] = metric.applyAsDouble(system);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(season, grid, factory, metric, scores, from, middle),
+                      new SweepTask(season, grid, factory, metric, scores, middle, to));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package footballer.ranking.tuning;
+
+import footballer.ranking.RankingSystem;
+import footballer.ranking.logging.LogEntry;
+
+/**
+ * Defines metrics which can be used to score a {@link RankingSystem} in a {@link ParameterSweep}.
+ */
+public class SweepMetrics {
+
+    /**
+     * Scores a {@link RankingSystem} by how often its favorite won.
+     *
+     * For every {@link footballer.structure.Game} which was not a tie (or unplayed), the favorite is the team with the greater {@link footballer.ranking.Rank}
+     * before the game was applied (see {@link LogEntry}), which is the team the ranking system would have predicted to win.
+     * Games between teams with equal ranks are not predictions (the favorite is just the away team), so they are skipped,
+     * the same as in {@link Backtester}.
+     *
+     * @param rankingSystem the {@link RankingSystem} to score, after games have been applied to it
+     * @return the fraction of decided and predicted games which were won by the favorite, or {@code 0} if there were no such games
+     */
+    public static double predictionAccuracy(RankingSystem rankingSystem) {
+        int decided = 0;
+        int correct = 0;
+
+        for (LogEntry entry : rankingSystem.getLog().getEntries()) {
+            if (entry.game.getWinner() == null) continue;
+            if (entry.favoriteInitial == entry.underdogInitial) continue;
+            decided++;
+            if (entry.game.getWinner() == entry.favorite) correct++;
+        }
+
+        return decided == 0 ? 0 : (double) correct / decided;
+    }
+}
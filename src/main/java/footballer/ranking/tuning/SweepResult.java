@@ -0,0 +1,28 @@
+package footballer.ranking.tuning;
+
+import java.util.Comparator;
+import java.util.Map;
+import footballer.Utils;
+
+/**
+ * Defines the score of a single combination of parameters in a {@link ParameterSweep}.
+ */
+public class SweepResult {
+    public final Map<String, Double> parameters;
+    public final double score;
+
+    /**
+     * {@link Comparator} to be used to order results from the highest {@code score} to the lowest.
+     */
+    public static Comparator<SweepResult> scoreComparator = (SweepResult r1, SweepResult r2) -> -Double.compare(r1.score, r2.score);
+
+    public SweepResult(Map<String, Double> parameters, double score) {
+        this.parameters = parameters;
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "#SweepResult<Parameters: " + parameters + ", Score: " + Utils.roundDecimal(score, 4) + ">";
+    }
+}
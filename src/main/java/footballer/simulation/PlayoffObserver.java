@@ -0,0 +1,387 @@
+package footballer.simulation;
+
+import java.util.SplittableRandom;
+import footballer.structure.Team;
+
+/**
+ * Observes the playoff seeding of every simulated season of a {@link SeasonSimulator}, using the NFL tiebreaking procedures.
+ *
+ * <h2>Seeding</h2>
+ * <ul>
+ *     <li>The winner of each division is the team with the best winning percentage in the division, with ties broken by the division procedure.</li>
+ *     <li>The division winners of each conference are seeded first, in order of winning percentage, with ties broken by the wild card procedure.</li>
+ *     <li>The wild cards ({@link footballer.Utils#getWildCardCount(int)}) are the best remaining teams in the conference, seeded after the division winners.</li>
+ * </ul>
+ *
+ * <h2>Tiebreakers</h2>
+ * Between teams in the same division:
+ * <ol>
+ *     <li>Head-to-head (winning percentage in games between the tied teams)</li>
+ *     <li>Winning percentage in games within the division</li>
+ *     <li>Winning percentage in common games</li>
+ *     <li>Winning percentage in games within the conference</li>
+ *     <li>Strength of victory (the combined winning percentage of the teams beaten)</li>
+ *     <li>Coin toss</li>
+ * </ol>
+ * Between teams in different divisions, only the best team of each division (by the division procedure) takes part, and then:
+ * <ol>
+ *     <li>Head-to-head, if the teams have played each other (for three or more teams, only if one team beat or lost to all of the others)</li>
+ *     <li>Winning percentage in games within the conference</li>
+ *     <li>Winning percentage in common games, if every team has played at least {@link #MIN_COMMON_GAMES}</li>
+ *     <li>Strength of victory</li>
+ *     <li>Coin toss</li>
+ * </ol>
+ * Whenever a step eliminates some but not all of three or more tied teams, the procedure starts over with the remaining teams.
+ * Tiebreakers beyond strength of victory (such as strength of schedule and points) are not modelled and fall through to the coin toss.
+ */
+public class PlayoffObserver implements SimulationObserver<PlayoffObserver> {
+    /** The minimum number of common games for the common games tiebreaker to apply to teams in different divisions. */
+    public static final int MIN_COMMON_GAMES = 4;
+
+    private final TiebreakTables tables;
+    private final int teamCount;
+    private final int maxSeeds;
+
+    private long iterations;
+    /** The number of seasons in which each team got each seed, flattened as {@code [id * maxSeeds + seed]}. */
+    private final long[] seedCounts;
+    /** The number of seasons in which each team won its division. */
+    private final long[] divisionWinCounts;
+
+    /** The number of games each team won against each other team in the season being observed, reused between seasons. */
+    private final int[] headToHead;
+    /** The points of each team in the season being observed (two per win and one per tie), reused between seasons. */
+    private final int[] points;
+    /** The random number generator of the season being observed. */
+    private SplittableRandom random;
+
+    /**
+     * Creates a playoff observer.
+     * @param tables the precomputed {@link TiebreakTables} of the {@link SeasonSimulator}, which can be shared by every observer
+     */
+    public PlayoffObserver(TiebreakTables tables) {
+        this.tables = tables;
+        this.teamCount = tables.teamCount;
+
+        int most = 0;
+        for (int c = 0; c < tables.conferenceDivisions.length; c++) most = Math.max(most, tables.getSeedCount(c));
+        maxSeeds = most;
+
+        seedCounts = new long[teamCount * maxSeeds];
+        divisionWinCounts = new long[teamCount];
+        headToHead = new int[teamCount * teamCount];
+        points = new int[teamCount];
+    }
+
+    @Override
+    public void observe(int[] wins, boolean[] homeWins, SplittableRandom random) {
+        this.random = random;
+        iterations++;
+
+        System.arraycopy(tables.playedWins, 0, headToHead, 0, headToHead.length);
+        for (int i = 0; i < homeWins.length; i++) {
+            if (homeWins[i]) {
+                headToHead[tables.remainingHome[i] * teamCount + tables.remainingAway[i]]++;
+            } else {
+                headToHead[tables.remainingAway[i] * teamCount + tables.remainingHome[i]]++;
+            }
+        }
+        for (int id = 0; id < teamCount; id++) points[id] = 2 * wins[id] + tables.tieCounts[id];
+
+        for (int c = 0; c < tables.conferenceMembers.length; c++) {
+            long divisionWinners = 0;
+            for (long division : tables.conferenceDivisions[c]) {
+                int winner = best(division);
+                divisionWinners |= 1L << winner;
+                divisionWinCounts[winner]++;
+            }
+
+            int seed = 0;
+            long remaining = divisionWinners;
+            while (remaining != 0) {
+                int team = best(remaining);
+                seedCounts[team * maxSeeds + seed++]++;
+                remaining &= ~(1L << team);
+            }
+
+            remaining = tables.conferenceMembers[c] & ~divisionWinners;
+            for (int w = 0; w < tables.wildCardCount && remaining != 0; w++) {
+                int team = best(remaining);
+                seedCounts[team * maxSeeds + seed++]++;
+                remaining &= ~(1L << team);
+            }
+        }
+    }
+
+    /**
+     * Determines the best team in a group, which is the team with the best winning percentage after breaking any ties.
+     * @param group the teams to choose from, which must not be empty
+     * @return the {@link Team#getId()} of the best team
+     */
+    private int best(long group) {
+        double bestPercentage = -1;
+        long tied = 0;
+        for (long rest = group; rest != 0; rest &= rest - 1) {
+            int team = Long.numberOfTrailingZeros(rest);
+            double percentage = percentage(points[team], tables.gameCounts[team]);
+            if (percentage > bestPercentage) {
+                bestPercentage = percentage;
+                tied = 0;
+            }
+            if (percentage == bestPercentage) tied |= 1L << team;
+        }
+        return breakTie(tied);
+    }
+
+    /**
+     * Breaks a tie between a group of teams, starting the procedure over whenever some of the teams are eliminated.
+     * @param group the tied teams, which must not be empty
+     * @return the {@link Team#getId()} of the team which wins the tiebreaker
+     */
+    private int breakTie(long group) {
+        while (Long.bitCount(group) > 1) {
+            boolean oneDivision = (group & ~tables.divisions[Long.numberOfTrailingZeros(group)]) == 0;
+            long remaining = oneDivision ? reduceDivisionTie(group) : reduceWildCardTie(group);
+            if (remaining == group) return coinToss(group);
+            group = remaining;
+        }
+        return Long.numberOfTrailingZeros(group);
+    }
+
+    /**
+     * Applies the steps of the division tiebreaking procedure until one of them eliminates any of the tied teams.
+     * @return the teams which remain after the first step which eliminates any of the teams, or {@code group} if none of them do
+     */
+    private long reduceDivisionTie(long group) {
+        long remaining = keepBestRecord(group, group);
+        if (remaining != group) return remaining;
+
+        remaining = keepBestRecord(group, tables.divisions[Long.numberOfTrailingZeros(group)]);
+        if (remaining != group) return remaining;
+
+        remaining = keepBestRecord(group, commonOpponents(group));
+        if (remaining != group) return remaining;
+
+        remaining = keepBestRecord(group, tables.conferences[Long.numberOfTrailingZeros(group)]);
+        if (remaining != group) return remaining;
+
+        return keepBestStrengthOfVictory(group);
+    }
+
+    /**
+     * Applies the steps of the wild card tiebreaking procedure until one of them eliminates any of the tied teams.
+     * @return the teams which remain after the first step which eliminates any of the teams, or {@code group} if none of them do
+     */
+    private long reduceWildCardTie(long group) {
+        // Only the best team of each division can take part
+        long divisionBest = 0;
+        for (long rest = group; rest != 0; ) {
+            long division = group & tables.divisions[Long.numberOfTrailingZeros(rest)];
+            divisionBest |= Long.bitCount(division) > 1 ? 1L << breakTie(division) : division;
+            rest &= ~division;
+        }
+        if (divisionBest != group) return divisionBest;
+
+        long remaining = keepHeadToHeadSweep(group);
+        if (remaining != group) return remaining;
+
+        remaining = keepBestRecord(group, tables.conferences[Long.numberOfTrailingZeros(group)]);
+        if (remaining != group) return remaining;
+
+        long common = commonOpponents(group);
+        if (hasCommonGames(group, common)) {
+            remaining = keepBestRecord(group, common);
+            if (remaining != group) return remaining;
+        }
+
+        return keepBestStrengthOfVictory(group);
+    }
+
+    /**
+     * Applies the head-to-head step between teams in different divisions.
+     * Two teams are compared by their games against each other, if they have played.
+     * Three or more teams are only separated if one of them beat each of the others (which leaves just that team)
+     * or lost to each of the others (which eliminates just that team).
+     */
+    private long keepHeadToHeadSweep(long group) {
+        if (Long.bitCount(group) == 2) {
+            int first = Long.numberOfTrailingZeros(group);
+            int second = Long.numberOfTrailingZeros(group & (group - 1));
+            return tables.meetings[first * teamCount + second] > 0 ? keepBestRecord(group, group) : group;
+        }
+
+        for (long rest = group; rest != 0; rest &= rest - 1) {
+            int team = Long.numberOfTrailingZeros(rest);
+            boolean beatAll = true;
+            boolean lostToAll = true;
+            for (long others = group & ~(1L << team); others != 0; others &= others - 1) {
+                int other = Long.numberOfTrailingZeros(others);
+                int won = headToHead[team * teamCount + other];
+                int lost = headToHead[other * teamCount + team];
+                if (won == 0 || lost > 0) beatAll = false;
+                if (lost == 0 || won > 0) lostToAll = false;
+            }
+            if (beatAll) return 1L << team;
+            if (lostToAll) return group & ~(1L << team);
+        }
+        return group;
+    }
+
+    /**
+     * Keeps the teams with the best winning percentage against a set of opponents.
+     * Each team's games against itself are never counted, so {@code opponents} can include the tied teams.
+     * @param group the tied teams
+     * @param opponents the opponents whose games count
+     * @return the teams with the best winning percentage, or {@code group} if any of the teams has no games against {@code opponents}
+     */
+    private long keepBestRecord(long group, long opponents) {
+        double bestPercentage = -1;
+        long kept = 0;
+        for (long rest = group; rest != 0; rest &= rest - 1) {
+            int team = Long.numberOfTrailingZeros(rest);
+            int teamPoints = 0;
+            int games = 0;
+            for (long others = opponents & ~(1L << team); others != 0; others &= others - 1) {
+                int other = Long.numberOfTrailingZeros(others);
+                teamPoints += 2 * headToHead[team * teamCount + other] + tables.ties[team * teamCount + other];
+                games += tables.meetings[team * teamCount + other];
+            }
+            if (games == 0) return group;
+
+            double percentage = percentage(teamPoints, games);
+            if (percentage > bestPercentage) {
+                bestPercentage = percentage;
+                kept = 0;
+            }
+            if (percentage == bestPercentage) kept |= 1L << team;
+        }
+        return kept;
+    }
+
+    /**
+     * Keeps the teams with the best strength of victory, which is the combined winning percentage of the teams they beat (once per win).
+     */
+    private long keepBestStrengthOfVictory(long group) {
+        double bestStrength = -1;
+        long kept = 0;
+        for (long rest = group; rest != 0; rest &= rest - 1) {
+            int team = Long.numberOfTrailingZeros(rest);
+            long beatenPoints = 0;
+            long beatenGames = 0;
+            for (long others = tables.opponents[team]; others != 0; others &= others - 1) {
+                int other = Long.numberOfTrailingZeros(others);
+                int won = headToHead[team * teamCount + other];
+                beatenPoints += (long) won * points[other];
+                beatenGames += (long) won * tables.gameCounts[other];
+            }
+
+            double strength = beatenGames == 0 ? 0 : beatenPoints / (2.0 * beatenGames);
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                kept = 0;
+            }
+            if (strength == bestStrength) kept |= 1L << team;
+        }
+        return kept;
+    }
+
+    /**
+     * Gets the opponents which every team in a group has played, not including the teams in the group.
+     */
+    private long commonOpponents(long group) {
+        int first = Long.numberOfTrailingZeros(group);
+        long rest = group & (group - 1);
+        long common = tables.commonOpponents[first * teamCount + Long.numberOfTrailingZeros(rest)];
+        for (rest &= rest - 1; rest != 0; rest &= rest - 1) common &= tables.opponents[Long.numberOfTrailingZeros(rest)];
+        return common & ~group;
+    }
+
+    /**
+     * Determines if every team in a group has played at least {@link #MIN_COMMON_GAMES} against a set of common opponents.
+     */
+    private boolean hasCommonGames(long group, long common) {
+        for (long rest = group; rest != 0; rest &= rest - 1) {
+            int team = Long.numberOfTrailingZeros(rest);
+            int games = 0;
+            for (long others = common; others != 0; others &= others - 1) games += tables.meetings[team * teamCount + Long.numberOfTrailingZeros(others)];
+            if (games < MIN_COMMON_GAMES) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Picks one team of a group at random.
+     */
+    private int coinToss(long group) {
+        int pick = random.nextInt(Long.bitCount(group));
+        for (int i = 0; i < pick; i++) group &= group - 1;
+        return Long.numberOfTrailingZeros(group);
+    }
+
+    private static double percentage(int points, int games) {
+        return games == 0 ? 0 : points / (2.0 * games);
+    }
+
+    @Override
+    public void merge(PlayoffObserver other) {
+        iterations += other.iterations;
+        for (int i = 0; i < seedCounts.length; i++) seedCounts[i] += other.seedCounts[i];
+        for (int i = 0; i < divisionWinCounts.length; i++) divisionWinCounts[i] += other.divisionWinCounts[i];
+    }
+
+    /**
+     * Gets the number of seasons which have been observed.
+     * @return the number of observed seasons
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the distribution of a {@link Team}'s playoff seed.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} got each seed, where index {@code 0} is the first seed
+     */
+    public double[] getSeedDistribution(Team team) {
+        double[] result = new double[maxSeeds];
+        for (int seed = 0; seed < maxSeeds; seed++) result[seed] = fraction(seedCounts[team.getId() * maxSeeds + seed]);
+        return result;
+    }
+
+    /**
+     * Gets the probability that a {@link Team} makes the playoffs.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} got any seed
+     */
+    public double getPlayoffProbability(Team team) {
+        long count = 0;
+        for (int seed = 0; seed < maxSeeds; seed++) count += seedCounts[team.getId() * maxSeeds + seed];
+        return fraction(count);
+    }
+
+    /**
+     * Gets the probability that a {@link Team} wins its {@link footballer.structure.Division}.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} won its division
+     */
+    public double getDivisionWinProbability(Team team) {
+        return fraction(divisionWinCounts[team.getId()]);
+    }
+
+    /**
+     * Gets the probability that a {@link Team} gets a first round bye, which goes to the top seed when there are three wild cards
+     * and to the top two seeds when there are two.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} got a first round bye
+     */
+    public double getByeProbability(Team team) {
+        int byes = tables.wildCardCount >= 3 ? 1 : 2;
+        long count = 0;
+        for (int seed = 0; seed < byes; seed++) count += seedCounts[team.getId() * maxSeeds + seed];
+        return fraction(count);
+    }
+
+    private double fraction(long count) {
+        return iterations == 0 ? 0 : (double) count / iterations;
+    }
+}
@@ -0,0 +1,344 @@
+package footballer.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import footballer.ranking.RankingSystem;
+import footballer.structure.Conference;
+import footballer.structure.Division;
+import footballer.structure.Game;
+import footballer.structure.Matchups;
+import footballer.structure.Season;
+import footballer.structure.Standings;
+import footballer.structure.Team;
+
+/**
+ * Simulates the rest of a partially played {@link Season} many times, using the {@link footballer.ranking.Rank}s of a {@link RankingSystem}.
+ *
+ * <h2>Methodology</h2>
+ * <ul>
+ *     <li>Each remaining {@link Game} (one which has not been played, see {@link Game#isPlayed()}) is simulated independently.</li>
+ *     <li>
+ *         The probability that the home team wins is {@code 1 / (1 + e^(-steepness * (home - away) / deviation))},
+ *         where {@code home} and {@code away} are the {@link footballer.ranking.Rank} values of the teams
+ *         and {@code deviation} is the standard deviation of every team's rank value, so that the probabilities do not depend on the scale of the ranking system.
+ *     </li>
+ *     <li>Simulated games are never ties.</li>
+ * </ul>
+ *
+ * Everything the simulation needs is copied out of the {@link Season} and {@link RankingSystem} into primitive arrays when the simulator is created,
+ * so they can be changed afterwards, and simulating does not allocate anything per simulated season.
+ * Simulated seasons are split across every core, and each thread has its own {@link SplittableRandom} (split from the one seeded random)
+ * and its own {@link SimulationObserver}.
+ */
+public class SeasonSimulator {
+    /** The default steepness, which gives the team with a rank one standard deviation higher about a {@code 65%} chance of winning. */
+    public static final double DEFAULT_STEEPNESS = 0.6;
+    /** The number of simulated seasons below which a fork-join task simulates them itself instead of splitting. */
+    private static final int SEASONS_PER_TASK = 4096;
+
+    private final int year;
+    private final List<Team> teams;
+    private final int teamCount;
+
+    private final int[] playedWins;
+    private final int[] playedLosses;
+    private final int[] playedTies;
+    /** The number of played games each team won against each other team, flattened as {@code [id * teamCount + opponentId]}. */
+    private final int[] playedHeadToHeadWins;
+    /** The number of played games each team tied with each other team, flattened as {@code [id * teamCount + opponentId]}. */
+    private final int[] playedHeadToHeadTies;
+
+    private final int[] awayIds;
+    private final int[] homeIds;
+    private final double[] homeWinProbabilities;
+
+    private final int[] conferenceIds;
+    private final int[] divisionIds;
+    private final int[][] divisionMembers;
+
+    /**
+     * Creates a simulator with the {@link #DEFAULT_STEEPNESS}.
+     * @param season the partially played {@link Season} to simulate the rest of
+     * @param rankingSystem the {@link RankingSystem} whose current {@link footballer.ranking.Rank}s determine the win probabilities
+     */
+    public SeasonSimulator(Season season, RankingSystem rankingSystem) {
+        this(season, rankingSystem, DEFAULT_STEEPNESS);
+    }
+
+    /**
+     * Creates a simulator.
+     * @param season the partially played {@link Season} to simulate the rest of
+     * @param rankingSystem the {@link RankingSystem} whose current {@link footballer.ranking.Rank}s determine the win probabilities
+     * @param steepness how strongly a difference in rank values favors the higher ranked team, where {@code 0} makes every game a coin flip
+     */
+    public SeasonSimulator(Season season, RankingSystem rankingSystem, double steepness) {
+        year = season.year;
+        teams = season.getTeams();
+        int size = 0;
+        for (Team team : teams) size = Math.max(size, team.getId() + 1);
+        teamCount = size;
+
+        Standings standings = season.getStandings();
+        double[] values = new double[teamCount];
+        playedWins = new int[teamCount];
+        playedLosses = new int[teamCount];
+        playedTies = new int[teamCount];
+        for (Team team : teams) {
+            int id = team.getId();
+            values[id] = rankingSystem.getRank(team).getValue();
+            playedWins[id] = standings.getWins(team);
+            playedLosses[id] = standings.getLosses(team);
+            playedTies[id] = standings.getTies(team);
+        }
+        double deviation = standardDeviation(values);
+
+        Matchups matchups = season.getMatchups();
+        playedHeadToHeadWins = new int[teamCount * teamCount];
+        playedHeadToHeadTies = new int[teamCount * teamCount];
+        for (Team team : teams) {
+            for (Team opponent : teams) {
+                playedHeadToHeadWins[team.getId() * teamCount + opponent.getId()] = matchups.getWins(team, opponent);
+                playedHeadToHeadTies[team.getId() * teamCount + opponent.getId()] = matchups.getTies(team, opponent);
+            }
+        }
+
+        List<Game> remaining = new ArrayList<>();
+        for (Game game : season.getGames()) {
+            if (!game.isPlayed()) remaining.add(game);
+        }
+        awayIds = new int[remaining.size()];
+        homeIds = new int[remaining.size()];
+        homeWinProbabilities = new double[remaining.size()];
+        for (int i = 0; i < remaining.size(); i++) {
+            Game game = remaining.get(i);
+            awayIds[i] = game.awayTeam.getId();
+            homeIds[i] = game.homeTeam.getId();
+            double diff = deviation == 0 ? 0 : (values[homeIds[i]] - values[awayIds[i]]) / deviation;
+            homeWinProbabilities[i] = 1 / (1 + Math.exp(-steepness * diff));
+        }
+
+        conferenceIds = new int[teamCount];
+        divisionIds = new int[teamCount];
+        List<int[]> divisions = new ArrayList<>();
+        List<Conference> conferences = season.getConferences();
+        for (int c = 0; c < conferences.size(); c++) {
+            for (Division division : conferences.get(c).getDivisions()) {
+                List<Team> members = division.getTeams();
+                int[] memberIds = new int[members.size()];
+                for (int i = 0; i < members.size(); i++) {
+                    int id = members.get(i).getId();
+                    memberIds[i] = id;
+                    conferenceIds[id] = c;
+                    divisionIds[id] = divisions.size();
+                }
+                divisions.add(memberIds);
+            }
+        }
+        divisionMembers = divisions.toArray(new int[0][]);
+    }
+
+    private static double standardDeviation(double[] values) {
+        double mean = 0;
+        for (double value : values) mean += value;
+        mean /= values.length;
+
+        double variance = 0;
+        for (double value : values) variance += (value - mean) * (value - mean);
+        return Math.sqrt(variance / values.length);
+    }
+
+    /**
+     * Simulates the rest of the season and observes the projected standings with a {@link StandingsObserver}.
+     * @param iterations the number of seasons to simulate
+     * @param seed the seed of the random number generator, so that simulations can be repeated
+     * @return the merged {@link StandingsObserver}
+     */
+    public StandingsObserver simulate(int iterations, long seed) {
+        return simulate(iterations, seed, () -> new StandingsObserver(this));
+    }
+
+    /**
+     * Simulates the rest of the season on the common fork-join pool.
+     * @param iterations the number of seasons to simulate
+     * @param seed the seed of the random number generator, so that simulations can be repeated
+     * @param observers the function which creates a new {@link SimulationObserver} for each thread
+     * @param <T> the type of the {@link SimulationObserver}
+     * @return the merged {@link SimulationObserver} of every thread
+     */
+    public <T extends SimulationObserver<T>> T simulate(int iterations, long seed, Supplier<T> observers) {
+        return ForkJoinPool.commonPool().invoke(new SimulationTask<>(observers, new SplittableRandom(seed), iterations));
+    }
+
+    /**
+     * Simulates seasons with a single observer and random number generator, reusing the same arrays for every season.
+     */
+    private <T extends SimulationObserver<T>> T simulateSequential(Supplier<T> observers, SplittableRandom random, int iterations) {
+        T observer = observers.get();
+        int[] wins = new int[teamCount];
+        boolean[] homeWins = new boolean[homeIds.length];
+
+        for (int n = 0; n < iterations; n++) {
+            System.arraycopy(playedWins, 0, wins, 0, teamCount);
+            for (int i = 0; i < homeIds.length; i++) {
+                boolean homeWin = random.nextDouble() < homeWinProbabilities[i];
+                homeWins[i] = homeWin;
+                wins[homeWin ? homeIds[i] : awayIds[i]]++;
+            }
+            observer.observe(wins, homeWins, random);
+        }
+
+        return observer;
+    }
+
+    /**
+     * Simulates a number of seasons, splitting them in half (along with the random number generator) until there are few enough.
+     */
+    private class SimulationTask<T extends SimulationObserver<T>> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Supplier<T> observers;
+        private final SplittableRandom random;
+        private final int iterations;
+
+        SimulationTask(Supplier<T> observers, SplittableRandom random, int iterations) {
+            this.observers = observers;
+            this.random = random;
+            this.iterations = iterations;
+        }
+
+        @Override
+        protected T compute() {
+            if (iterations <= SEASONS_PER_TASK) return simulateSequential(observers, random, iterations);
+
+            int half = iterations / 2;
+            SimulationTask<T> first = new SimulationTask<>(observers, random.split(), half);
+            SimulationTask<T> second = new SimulationTask<>(observers, random, iterations - half);
+            first.fork();
+            T result = second.compute();
+            result.merge(first.join());
+            return result;
+        }
+    }
+
+    /**
+     * Simulates the rest of the season and observes the playoff seeding with a {@link PlayoffObserver}.
+     * @param iterations the number of seasons to simulate
+     * @param seed the seed of the random number generator, so that simulations can be repeated
+     * @return the merged {@link PlayoffObserver}
+     */
+    public PlayoffObserver simulatePlayoffs(int iterations, long seed) {
+        TiebreakTables tables = new TiebreakTables(this);
+        return simulate(iterations, seed, () -> new PlayoffObserver(tables));
+    }
+
+    /**
+     * Gets the year of the simulated season.
+     * @return the year of the {@link Season}
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Gets the {@link Team}s of the simulated season.
+     * @return the {@link Team}s, in the order of {@link Season#getTeams()}
+     */
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    /**
+     * Gets the size of the arrays indexed by {@link Team#getId()} which are passed to a {@link SimulationObserver}.
+     * @return one more than the greatest {@link Team#getId()}
+     */
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getPlayedWins(int teamId) {
+        return playedWins[teamId];
+    }
+
+    public int getPlayedLosses(int teamId) {
+        return playedLosses[teamId];
+    }
+
+    public int getPlayedTies(int teamId) {
+        return playedTies[teamId];
+    }
+
+    /**
+     * Gets the number of played {@link Game}s which a {@link Team} won against another team.
+     * @param teamId the {@link Team#getId()} of the team
+     * @param opponentId the {@link Team#getId()} of the opponent
+     * @return the number of played games {@code teamId} won against {@code opponentId}
+     */
+    public int getPlayedWins(int teamId, int opponentId) {
+        return playedHeadToHeadWins[teamId * teamCount + opponentId];
+    }
+
+    /**
+     * Gets the number of played {@link Game}s which a {@link Team} tied with another team.
+     * @param teamId the {@link Team#getId()} of the team
+     * @param opponentId the {@link Team#getId()} of the opponent
+     * @return the number of played games between {@code teamId} and {@code opponentId} which were ties
+     */
+    public int getPlayedTies(int teamId, int opponentId) {
+        return playedHeadToHeadTies[teamId * teamCount + opponentId];
+    }
+
+    /**
+     * Gets the number of {@link Game}s which are simulated in each season.
+     * @return the number of remaining games
+     */
+    public int getRemainingGameCount() {
+        return homeIds.length;
+    }
+
+    public int getAwayId(int gameIndex) {
+        return awayIds[gameIndex];
+    }
+
+    public int getHomeId(int gameIndex) {
+        return homeIds[gameIndex];
+    }
+
+    /**
+     * Gets the probability that the home team wins a remaining {@link Game}.
+     * @param gameIndex the index of the remaining game
+     * @return the probability that the home team wins, from {@code 0} to {@code 1}
+     */
+    public double getHomeWinProbability(int gameIndex) {
+        return homeWinProbabilities[gameIndex];
+    }
+
+    /**
+     * Gets the index of a {@link Team}'s {@link Conference}.
+     * @param teamId the {@link Team#getId()} of the team
+     * @return the index of the team's conference in {@link Season#getConferences()}
+     */
+    public int getConferenceId(int teamId) {
+        return conferenceIds[teamId];
+    }
+
+    /**
+     * Gets the index of a {@link Team}'s {@link Division}.
+     * @param teamId the {@link Team#getId()} of the team
+     * @return the index of the team's division in {@link #getDivisionMembers()}
+     */
+    public int getDivisionId(int teamId) {
+        return divisionIds[teamId];
+    }
+
+    /**
+     * Gets the members of every {@link Division}, in the order of each {@link Conference}'s divisions in {@link Season#getConferences()}.
+     * @return the {@link Team#getId()}s of the members of each division (which must not be modified)
+     */
+    public int[][] getDivisionMembers() {
+        return divisionMembers;
+    }
+}
@@ -0,0 +1,31 @@
+package footballer.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Observes the outcome of every simulated {@link footballer.structure.Season} of a {@link SeasonSimulator}.
+ *
+ * Each thread of a simulation gets its own observer, so an observer does not need to be thread-safe,
+ * and the observers of every thread are merged into one once the simulation is done.
+ * {@link #observe(int[], boolean[], SplittableRandom)} is called once per simulated season, so it should not allocate.
+ *
+ * @param <T> the type of the observer, which can be merged with observers of the same type
+ */
+public interface SimulationObserver<T extends SimulationObserver<T>> {
+
+    /**
+     * Observes one simulated season.
+     * The arrays are reused for the next simulated season, so they must not be kept.
+     * @param wins the total number of wins of each {@link footballer.structure.Team}, including the games which have already been played,
+     * indexed by {@link footballer.structure.Team#getId()}
+     * @param homeWins whether the home team won each remaining game, in the order of {@link SeasonSimulator#getRemainingGameCount()}
+     * @param random the random number generator of the current thread, for breaking ties
+     */
+    void observe(int[] wins, boolean[] homeWins, SplittableRandom random);
+
+    /**
+     * Adds everything observed by another observer to this observer.
+     * @param other the observer to merge into this one
+     */
+    void merge(T other);
+}
@@ -0,0 +1,135 @@
+package footballer.simulation;
+
+import java.util.SplittableRandom;
+import footballer.structure.Team;
+
+/**
+ * Observes the projected win totals and division standings of a {@link SeasonSimulator}.
+ *
+ * Teams are placed in their division by wins, where ties count as half a win, and any remaining ties between teams are broken at random.
+ */
+public class StandingsObserver implements SimulationObserver<StandingsObserver> {
+    private final SeasonSimulator simulator;
+    private final int maxWins;
+    private final int maxDivisionSize;
+
+    private long iterations;
+    /** The number of seasons in which each team finished with each number of wins, flattened as {@code [id * (maxWins + 1) + wins]}. */
+    private final long[] winCounts;
+    /** The number of seasons in which each team finished in each place of its division, flattened as {@code [id * maxDivisionSize + place]}. */
+    private final long[] placeCounts;
+
+    /** The points of each team in the season being observed (two per win and one per tie), reused between seasons. */
+    private final int[] points;
+    /** The random tiebreaker of each team in the season being observed, reused between seasons. */
+    private final int[] tiebreakers;
+
+    public StandingsObserver(SeasonSimulator simulator) {
+        this.simulator = simulator;
+
+        int teamCount = simulator.getTeamCount();
+        int[] gameCounts = new int[teamCount];
+        for (int i = 0; i < simulator.getRemainingGameCount(); i++) {
+            gameCounts[simulator.getAwayId(i)]++;
+            gameCounts[simulator.getHomeId(i)]++;
+        }
+        int most = 0;
+        for (int id = 0; id < teamCount; id++) most = Math.max(most, simulator.getPlayedWins(id) + gameCounts[id]);
+        maxWins = most;
+
+        int largest = 0;
+        for (int[] members : simulator.getDivisionMembers()) largest = Math.max(largest, members.length);
+        maxDivisionSize = largest;
+
+        winCounts = new long[teamCount * (maxWins + 1)];
+        placeCounts = new long[teamCount * maxDivisionSize];
+        points = new int[teamCount];
+        tiebreakers = new int[teamCount];
+    }
+
+    @Override
+    public void observe(int[] wins, boolean[] homeWins, SplittableRandom random) {
+        iterations++;
+
+        for (int id = 0; id < simulator.getTeamCount(); id++) {
+            winCounts[id * (maxWins + 1) + wins[id]]++;
+            points[id] = 2 * wins[id] + simulator.getPlayedTies(id);
+            tiebreakers[id] = random.nextInt();
+        }
+
+        for (int[] members : simulator.getDivisionMembers()) {
+            for (int team : members) {
+                int place = 0;
+                for (int other : members) {
+                    if (points[other] > points[team] || (points[other] == points[team] && tiebreakers[other] > tiebreakers[team])) place++;
+                }
+                placeCounts[team * maxDivisionSize + place]++;
+            }
+        }
+    }
+
+    @Override
+    public void merge(StandingsObserver other) {
+        iterations += other.iterations;
+        for (int i = 0; i < winCounts.length; i++) winCounts[i] += other.winCounts[i];
+        for (int i = 0; i < placeCounts.length; i++) placeCounts[i] += other.placeCounts[i];
+    }
+
+    /**
+     * Gets the number of seasons which have been observed.
+     * @return the number of observed seasons
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the distribution of a {@link Team}'s total wins.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} finished with each number of wins, indexed by the number of wins
+     */
+    public double[] getWinDistribution(Team team) {
+        double[] result = new double[maxWins + 1];
+        int offset = team.getId() * (maxWins + 1);
+        for (int wins = 0; wins <= maxWins; wins++) result[wins] = fraction(winCounts[offset + wins]);
+        return result;
+    }
+
+    /**
+     * Gets the average number of total wins of a {@link Team}.
+     * @param team the {@link Team}
+     * @return the expected number of wins of {@code team}, including the games which have already been played
+     */
+    public double getExpectedWins(Team team) {
+        double total = 0;
+        int offset = team.getId() * (maxWins + 1);
+        for (int wins = 0; wins <= maxWins; wins++) total += wins * (double) winCounts[offset + wins];
+        return iterations == 0 ? 0 : total / iterations;
+    }
+
+    /**
+     * Gets the distribution of a {@link Team}'s place in its {@link footballer.structure.Division}.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} finished in each place, where index {@code 0} is first place
+     */
+    public double[] getDivisionPlaceDistribution(Team team) {
+        int size = simulator.getDivisionMembers()[simulator.getDivisionId(team.getId())].length;
+        double[] result = new double[size];
+        int offset = team.getId() * maxDivisionSize;
+        for (int place = 0; place < size; place++) result[place] = fraction(placeCounts[offset + place]);
+        return result;
+    }
+
+    /**
+     * Gets the probability that a {@link Team} finishes first in its {@link footballer.structure.Division}.
+     * @param team the {@link Team}
+     * @return the fraction of seasons in which {@code team} finished first in its division
+     */
+    public double getDivisionWinProbability(Team team) {
+        return fraction(placeCounts[team.getId() * maxDivisionSize]);
+    }
+
+    private double fraction(long count) {
+        return iterations == 0 ? 0 : (double) count / iterations;
+    }
+}
@@ -0,0 +1,134 @@
+package footballer.simulation;
+
+import footballer.Utils;
+
+/**
+ * Precomputes everything about a {@link SeasonSimulator}'s schedule which the NFL tiebreakers need and which does not change between simulated seasons.
+ *
+ * Sets of {@link footballer.structure.Team}s are kept as bit masks of {@link footballer.structure.Team#getId()}s,
+ * so finding the opponents two teams have in common is a single {@code &}, which limits a season to {@code 64} teams.
+ * Pairwise tables are flattened as {@code [id * teamCount + opponentId]}.
+ * A {@link TiebreakTables} is never modified, so one can be shared by every {@link PlayoffObserver} of a simulation.
+ */
+public class TiebreakTables {
+    final int teamCount;
+    final int wildCardCount;
+
+    /** The number of games between each pair of teams over the whole season, played or not. */
+    final int[] meetings;
+    /** The number of played games each team won against each other team. */
+    final int[] playedWins;
+    /** The number of played games between each pair of teams which were ties. */
+    final int[] ties;
+    /** The number of games of each team over the whole season. */
+    final int[] gameCounts;
+    /** The number of played games of each team which were ties. */
+    final int[] tieCounts;
+
+    /** The away and home team of each remaining game, in the order of {@link SeasonSimulator#getRemainingGameCount()}. */
+    final int[] remainingAway;
+    final int[] remainingHome;
+
+    /** The opponents of each team over the whole season. */
+    final long[] opponents;
+    /** The opponents which each pair of teams have in common, not including either team. */
+    final long[] commonOpponents;
+    /** The members of each team's division, including the team. */
+    final long[] divisions;
+    /** The members of each team's conference, including the team. */
+    final long[] conferences;
+
+    /** The members of every conference, by index of the conference. */
+    final long[] conferenceMembers;
+    /** The members of each division of every conference, by index of the conference. */
+    final long[][] conferenceDivisions;
+
+    /**
+     * Precomputes the tiebreak tables of a simulator.
+     * Throws an {@link IllegalArgumentException} if the season has more than {@code 64} teams.
+     * @param simulator the {@link SeasonSimulator} whose schedule should be precomputed
+     */
+    public TiebreakTables(SeasonSimulator simulator) {
+        int n = simulator.getTeamCount();
+        if (n > Long.SIZE) throw new IllegalArgumentException("Cannot break ties between more than " + Long.SIZE + " teams!");
+        teamCount = n;
+        wildCardCount = Utils.getWildCardCount(simulator.getYear());
+
+        meetings = new int[n * n];
+        playedWins = new int[n * n];
+        ties = new int[n * n];
+        gameCounts = new int[n];
+        tieCounts = new int[n];
+        for (int a = 0; a < n; a++) {
+            tieCounts[a] = simulator.getPlayedTies(a);
+            for (int b = 0; b < n; b++) {
+                playedWins[a * n + b] = simulator.getPlayedWins(a, b);
+                ties[a * n + b] = simulator.getPlayedTies(a, b);
+            }
+        }
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) meetings[a * n + b] = playedWins[a * n + b] + playedWins[b * n + a] + ties[a * n + b];
+        }
+        remainingAway = new int[simulator.getRemainingGameCount()];
+        remainingHome = new int[simulator.getRemainingGameCount()];
+        for (int i = 0; i < remainingAway.length; i++) {
+            int away = simulator.getAwayId(i);
+            int home = simulator.getHomeId(i);
+            remainingAway[i] = away;
+            remainingHome[i] = home;
+            meetings[away * n + home]++;
+            meetings[home * n + away]++;
+        }
+
+        opponents = new long[n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                gameCounts[a] += meetings[a * n + b];
+                if (meetings[a * n + b] > 0) opponents[a] |= 1L << b;
+            }
+        }
+        commonOpponents = new long[n * n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) commonOpponents[a * n + b] = opponents[a] & opponents[b] & ~(1L << a) & ~(1L << b);
+        }
+
+        int[][] divisionMembers = simulator.getDivisionMembers();
+        int conferenceCount = 0;
+        for (int[] members : divisionMembers) {
+            if (members.length > 0) conferenceCount = Math.max(conferenceCount, simulator.getConferenceId(members[0]) + 1);
+        }
+
+        divisions = new long[n];
+        conferences = new long[n];
+        conferenceMembers = new long[conferenceCount];
+        int[] divisionCounts = new int[conferenceCount];
+        for (int[] members : divisionMembers) {
+            if (members.length > 0) divisionCounts[simulator.getConferenceId(members[0])]++;
+        }
+        conferenceDivisions = new long[conferenceCount][];
+        for (int c = 0; c < conferenceCount; c++) conferenceDivisions[c] = new long[divisionCounts[c]];
+
+        int[] filled = new int[conferenceCount];
+        for (int[] members : divisionMembers) {
+            if (members.length == 0) continue;
+            long mask = 0;
+            for (int id : members) mask |= 1L << id;
+            int c = simulator.getConferenceId(members[0]);
+            for (int id : members) divisions[id] = mask;
+            conferenceMembers[c] |= mask;
+            conferenceDivisions[c][filled[c]++] = mask;
+        }
+        for (int a = 0; a < n; a++) {
+            if (divisions[a] != 0) conferences[a] = conferenceMembers[simulator.getConferenceId(a)];
+        }
+    }
+
+    /**
+     * Gets the number of playoff seeds in each conference, which is one per division plus the wild cards.
+     * @param conference the index of the conference
+     * @return the number of playoff seeds in the conference
+     */
+    int getSeedCount(int conference) {
+        return conferenceDivisions[conference].length + wildCardCount;
+    }
+}
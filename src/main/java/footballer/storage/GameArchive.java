@@ -0,0 +1,215 @@
+package footballer.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import footballer.Utils;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Week;
+
+/**
+ * Defines an append-only archive file which holds every {@link Game} of any number of {@link Season}s.
+ *
+ * The archive is read through a {@link MappedByteBuffer}, so a season is only turned into objects when it is asked for with {@link #readSeason(int)}.
+ * Every season is assumed to have the current structure ({@link Utils#createCurrentStructure(int)}),
+ * and each {@link footballer.structure.Team} is identified by its position in {@link Utils#currentTeams}.
+ *
+ * All values are big-endian, and the layout (version {@code 1}) is as follows:
+ * <ol>
+ *     <li>The magic number {@code FBGA} ({@code int}) and the format version ({@code int})</li>
+ *     <li>
+ *         Any number of season blocks, each made up of the year ({@code int}), the number of weeks ({@code int}) and the number of games ({@code int}),
+ *         followed by one fixed-width record of {@value #RECORD_SIZE} bytes per game:
+ *         the week number ({@code byte}), the away team id ({@code byte}), the home team id ({@code byte}),
+ *         a status ({@code byte}) which is {@code 1} if the game had been played but was not final yet (and {@code 0} otherwise),
+ *         the away team score ({@code short}) and the home team score ({@code short})
+ *     </li>
+ * </ol>
+ * Appending a season which is already in the archive adds a new block, which takes the place of the old one in the per-season offset index.
+ */
+public class GameArchive implements Closeable {
+    private static final int MAGIC = 0x46424741; // "FBGA"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int BLOCK_HEADER_SIZE = 12;
+    private static final int RECORD_SIZE = 8;
+
+    private static final Map<String, Integer> teamIds = new HashMap<>();
+
+    static {
+        for (int i = 0; i < Utils.currentTeams.length; i++) teamIds.put(Utils.currentTeams[i], i);
+    }
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /** The offset of the latest block for each season year. */
+    private final Map<Integer, Integer> index = new HashMap<>();
+
+    private GameArchive(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens an archive file, creating it if it does not exist.
+     * @param file the archive file to open
+     * @return the opened {@link GameArchive}
+     * @throws IOException if the file could not be opened, or if it is not a valid archive
+     */
+    public static GameArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        GameArchive archive = new GameArchive(channel);
+
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                channel.write(header, 0);
+            }
+            archive.map();
+            archive.buildIndex();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return archive;
+    }
+
+    /**
+     * Appends all of the {@link Game}s of a {@link Season} to this archive.
+     * If the season is already in this archive, the appended copy replaces it.
+     * @param season the {@link Season} to append
+     * @throws IOException if the season could not be written
+     * @throws IllegalArgumentException if the season contains a {@link footballer.structure.Team} which is not one of {@link Utils#currentTeams}
+     */
+    public synchronized void append(Season season) throws IOException {
+        int gameCount = 0;
+        for (Week week : season.getWeeks()) gameCount += week.getGames().size();
+
+        ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + gameCount * RECORD_SIZE);
+        block.putInt(season.year).putInt(season.getLastWeekNumber()).putInt(gameCount);
+        for (Week week : season.getWeeks()) {
+            for (Game game : week.getGames()) {
+                block.put((byte) week.number);
+                block.put(getTeamId(game.awayTeam.name));
+                block.put(getTeamId(game.homeTeam.name));
+                block.put((byte) (game.isPlayed() && !game.isFinal() ? 1 : 0));
+                block.putShort((short) game.awayTeamScore);
+                block.putShort((short) game.homeTeamScore);
+            }
+        }
+        block.flip();
+
+        long offset = channel.size();
+        while (block.hasRemaining()) channel.write(block, offset + block.position());
+
+        map();
+        index.put(season.year, (int) offset);
+    }
+
+    /**
+     * Determines if a {@link Season} is in this archive.
+     * @param year the year of the season
+     * @return {@code true} if the season which matches {@code year} is in this archive, or {@code false} otherwise
+     */
+    public synchronized boolean contains(int year) {
+        return index.containsKey(year);
+    }
+
+    /**
+     * Gets the years of all {@link Season}s in this archive.
+     * @return the years of all seasons in this archive, in ascending order
+     */
+    public synchronized Set<Integer> getYears() {
+        return new TreeSet<>(index.keySet());
+    }
+
+    /**
+     * Builds a {@link Season} from this archive.
+     * @param year the year of the season to build
+     * @return the {@link Season} which matches {@code year} with all of its {@link Game}s,
+     * or {@code null} if no such season is in this archive
+     */
+    public synchronized Season readSeason(int year) {
+        Integer offset = index.get(year);
+        if (offset == null) return null;
+
+        int weekCount = buffer.getInt(offset + 4);
+        int gameCount = buffer.getInt(offset + 8);
+
+        Season season = Utils.createCurrentStructure(year);
+        for (int weekNum = 1; weekNum < weekCount + 1; weekNum++) season.addWeek(weekNum);
+
+        int position = offset + BLOCK_HEADER_SIZE;
+        for (int i = 0; i < gameCount; i++, position += RECORD_SIZE) {
+            String awayTeamName = Utils.currentTeams[buffer.get(position + 1)];
+            String homeTeamName = Utils.currentTeams[buffer.get(position + 2)];
+            int awayTeamScore = buffer.getShort(position + 4);
+            int homeTeamScore = buffer.getShort(position + 6);
+            boolean isFinal = awayTeamScore != -1 && homeTeamScore != -1 && buffer.get(position + 3) == 0;
+            season.addGame(buffer.get(position), awayTeamName, homeTeamName, awayTeamScore, homeTeamScore, isFinal);
+        }
+
+        return season;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps the whole archive file into memory, which has to be redone whenever the file grows.
+     */
+    private void map() throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    /**
+     * Builds the per-season offset index by jumping from block header to block header.
+     * A block which was only partially written (such as by a crash during {@link #append(Season)}) is cut off the end of the file,
+     * so that the next appended block directly follows the last complete one.
+     */
+    private void buildIndex() throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) throw new IOException("Not a game archive!");
+        int version = buffer.getInt(4);
+        if (version != VERSION) throw new IOException("Unsupported game archive version: " + version + "!");
+
+        int offset = HEADER_SIZE;
+        while (offset + BLOCK_HEADER_SIZE <= buffer.limit()) {
+            int year = buffer.getInt(offset);
+            int gameCount = buffer.getInt(offset + 8);
+            if (gameCount < 0) throw new IOException("Corrupt game archive block at offset " + offset + "!");
+            int next;
+            try {
+                next = Math.addExact(offset + BLOCK_HEADER_SIZE, Math.multiplyExact(gameCount, RECORD_SIZE));
+            } catch (ArithmeticException e) {
+                throw new IOException("Corrupt game archive block at offset " + offset + "!", e);
+            }
+            if (next > buffer.limit()) break;
+            index.put(year, offset);
+            offset = next;
+        }
+
+        if (offset < buffer.limit()) {
+            channel.truncate(offset);
+            map();
+        }
+    }
+
+    private static byte getTeamId(String teamName) {
+        Integer id = teamIds.get(teamName);
+        if (id == null) throw new IllegalArgumentException("Cannot archive unknown team: " + teamName + "!");
+        return id.byteValue();
+    }
+}
@@ -0,0 +1,208 @@
+package footballer.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import footballer.structure.Conference;
+import footballer.structure.Division;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import footballer.structure.Week;
+
+/**
+ * Reads and writes compact binary snapshots of a {@link Season}.
+ *
+ * A snapshot contains the whole structure of the season, followed by every {@link Game} packed into a few bytes.
+ * All values are big-endian, and the layout (version {@code 2}) is as follows:
+ * <ol>
+ *     <li>The magic number {@code FBSS} ({@code int}) and the format version ({@code byte})</li>
+ *     <li>The year of the season ({@code short})</li>
+ *     <li>
+ *         The team dictionary: the number of {@link Conference}s ({@code byte}), and for each conference its name,
+ *         the number of {@link Division}s ({@code byte}), and for each division its name,
+ *         the number of {@link Team}s ({@code byte}) and each team's name.
+ *         Names are written as a {@code short} byte length followed by UTF-8 bytes.
+ *         Each {@link Team} is identified by its position in the dictionary, starting from {@code 0}.
+ *         Counts and team ids which are written as a {@code byte} are unsigned, so a season can have at most {@code 255} of each.
+ *     </li>
+ *     <li>
+ *         The number of {@link Week}s ({@code short}), and for each week its number ({@code short}), its number of games ({@code short}),
+ *         and each game as its away team id ({@code byte}), home team id ({@code byte}), whether it is final ({@code byte}, {@code 1} or {@code 0}),
+ *         away team score ({@code short}) and home team score ({@code short})
+ *     </li>
+ * </ol>
+ * A full season is only a couple of kilobytes, so every season since 2002 fits in well under a hundred kilobytes.
+ */
+public class SeasonSnapshot {
+    private static final int MAGIC = 0x46425353; // "FBSS"
+    /** Version {@code 1} did not record whether each game was final, so its snapshots are rejected and the season is parsed again. */
+    private static final byte VERSION = 2;
+
+    /**
+     * Writes a snapshot of a {@link Season} to a file, replacing the file if it already exists.
+     * @param season the {@link Season} to write
+     * @param file the file to write the snapshot to
+     * @throws IOException if the file could not be written
+     */
+    public static void write(Season season, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, toBytes(season));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes a snapshot of a {@link Season} to an {@link OutputStream}.
+     * @param season the {@link Season} to write
+     * @param out the {@link OutputStream} to write to, which is not closed by this method
+     * @throws IOException if the snapshot could not be written
+     */
+    public static void write(Season season, OutputStream out) throws IOException {
+        out.write(toBytes(season));
+    }
+
+    /**
+     * Serializes a {@link Season} into a snapshot.
+     * @param season the {@link Season} to serialize
+     * @return the bytes of the snapshot
+     */
+    public static byte[] toBytes(Season season) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeShort(season.year);
+
+            // Team dictionary
+            Map<Team, Integer> ids = new HashMap<>();
+            writeUnsignedByte(out, season.getConferences().size(), season);
+            for (Conference conf : season.getConferences()) {
+                writeName(out, conf.name);
+                writeUnsignedByte(out, conf.getDivisions().size(), season);
+                for (Division div : conf.getDivisions()) {
+                    writeName(out, div.name);
+                    writeUnsignedByte(out, div.getTeams().size(), season);
+                    for (Team team : div.getTeams()) {
+                        writeName(out, team.name);
+                        ids.put(team, ids.size());
+                    }
+                }
+            }
+
+            // Packed games
+            out.writeShort(season.getWeeks().size());
+            for (Week week : season.getWeeks()) {
+                out.writeShort(week.number);
+                out.writeShort(week.getGames().size());
+                for (Game game : week.getGames()) {
+                    writeUnsignedByte(out, ids.get(game.awayTeam), season);
+                    writeUnsignedByte(out, ids.get(game.homeTeam), season);
+                    out.writeByte(game.isFinal() ? 1 : 0);
+                    out.writeShort(game.awayTeamScore);
+                    out.writeShort(game.homeTeamScore);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot serialize season: " + season.year + "!", e); // Never thrown by an in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a {@link Season} from a snapshot file with a single read.
+     * @param file the snapshot file to read
+     * @return the {@link Season} stored in the snapshot
+     * @throws IOException if the file could not be read, or if it is not a valid snapshot
+     */
+    public static Season read(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Reads a {@link Season} from a snapshot, starting at the current position of a {@link ByteBuffer}.
+     * The position of {@code buffer} is advanced to the end of the snapshot.
+     * @param buffer the {@link ByteBuffer} containing the snapshot
+     * @return the {@link Season} stored in the snapshot
+     * @throws IOException if the buffer does not contain a valid snapshot
+     */
+    public static Season read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a season snapshot!");
+            byte version = buffer.get();
+            if (version != VERSION) throw new IOException("Unsupported season snapshot version: " + version + "!");
+
+            Season season = new Season(buffer.getShort());
+
+            // Team dictionary
+            List<Team> teams = new ArrayList<>();
+            int conferenceCount = Byte.toUnsignedInt(buffer.get());
+            for (int c = 0; c < conferenceCount; c++) {
+                String conferenceName = readName(buffer);
+                season.addConference(conferenceName);
+                int divisionCount = Byte.toUnsignedInt(buffer.get());
+                for (int d = 0; d < divisionCount; d++) {
+                    String divisionName = readName(buffer);
+                    season.addDivision(conferenceName, divisionName);
+                    int teamCount = Byte.toUnsignedInt(buffer.get());
+                    for (int t = 0; t < teamCount; t++) {
+                        teams.add(season.addTeam(conferenceName, divisionName, readName(buffer)));
+                    }
+                }
+            }
+
+            // Packed games
+            int weekCount = buffer.getShort();
+            for (int w = 0; w < weekCount; w++) {
+                int weekNum = buffer.getShort();
+                season.addWeek(weekNum);
+                int gameCount = buffer.getShort();
+                for (int g = 0; g < gameCount; g++) {
+                    Team awayTeam = teams.get(Byte.toUnsignedInt(buffer.get()));
+                    Team homeTeam = teams.get(Byte.toUnsignedInt(buffer.get()));
+                    boolean isFinal = buffer.get() != 0;
+                    int awayTeamScore = buffer.getShort();
+                    int homeTeamScore = buffer.getShort();
+                    season.addGame(weekNum, awayTeam.name, homeTeam.name, awayTeamScore, homeTeamScore, isFinal);
+                }
+            }
+
+            return season;
+        } catch (RuntimeException e) { // Such as a buffer underflow, a team id out of range, or an invalid name
+            throw new IOException("Corrupt season snapshot!", e);
+        }
+    }
+
+    private static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) throw new RuntimeException("Cannot serialize name longer than " + Short.MAX_VALUE + " bytes: " + name + "!");
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a count or team id as an unsigned {@code byte}.
+     * Throws a {@link RuntimeException} if {@code value} does not fit in an unsigned byte.
+     */
+    private static void writeUnsignedByte(DataOutputStream out, int value, Season season) throws IOException {
+        if (value < 0 || value > 0xFF) throw new RuntimeException("Cannot serialize season with more than 255 conferences, divisions or teams: " + season.year + "!");
+        out.writeByte(value);
+    }
+
+    private static String readName(ByteBuffer buffer) throws IOException {
+        int length = buffer.getShort();
+        if (length < 0 || length > buffer.remaining()) throw new IOException("Corrupt season snapshot name length: " + length + "!");
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -10,12 +10,23 @@ public class Game {
     public final int awayTeamScore;
     public final int homeTeamScore;
 
+    private final boolean finished;
+
+    /**
+     * Creates a game which is final as soon as it has been played ({@link #isPlayed()}).
+     */
     public Game(Team aT, Team hT, int aTS, int hTS) {
+        this(aT, hT, aTS, hTS, aTS != -1 && hTS != -1);
+    }
+
+    public Game(Team aT, Team hT, int aTS, int hTS, boolean fin) {
         awayTeam = aT;
         homeTeam = hT;
 
         awayTeamScore = aTS;
         homeTeamScore = hTS;
+
+        finished = fin;
     }
 
     /**
@@ -32,6 +43,24 @@ public class Game {
         }
     }
 
+    /**
+     * Determines if the game has been played.
+     * Games which have not been played yet have a score of {@code -1} for both teams.
+     * @return {@code true} if both teams have a score, or {@code false} otherwise
+     */
+    public boolean isPlayed() {
+        return awayTeamScore != -1 && homeTeamScore != -1;
+    }
+
+    /**
+     * Determines if the game is over, so its score will not change anymore.
+     * A game which is still in progress has been played ({@link #isPlayed()}) but is not final.
+     * @return {@code true} if the game is final, or {@code false} otherwise
+     */
+    public boolean isFinal() {
+        return finished;
+    }
+
     @Override
     public String toString() {
         Team winner = getWinner();
@@ -2,6 +2,7 @@ package footballer.structure;
 
 import java.util.ArrayList;
 import java.util.List;
+import footballer.storage.GameArchive;
 
 /**
  * Defines a league such as the NFL.
@@ -9,9 +10,21 @@ import java.util.List;
 public class League {
     public final String name;
     private List<Season> seasons = new ArrayList<>();
+    private final GameArchive archive;
 
     public League(String n) {
+        this(n, null);
+    }
+
+    /**
+     * Creates a league which lazily loads its {@link Season}s from a {@link GameArchive}.
+     * A season from the archive is only built the first time it is asked for through {@link #getSeason(int)}.
+     * @param n the name of the league
+     * @param archive the {@link GameArchive} to load seasons from, or {@code null} if seasons should only be added through {@link #addSeason(int)}
+     */
+    public League(String n, GameArchive archive) {
         name = n;
+        this.archive = archive;
     }
 
     /**
@@ -28,6 +41,7 @@ public class League {
 
     /**
      * Gets a {@link Season} by its year.
+     * If the season has not been added to this league yet but it is in the {@link GameArchive} of this league, it is loaded from the archive.
      * @param year the year of the {@link Season} to get
      * @return the {@link Season} which matches {@code year}, or {@code null} if no such season exists
      */
@@ -37,6 +51,10 @@ public class League {
                 return season;
             }
         }
-        return null;
+
+        if (archive == null) return null;
+        Season season = archive.readSeason(year);
+        if (season != null) seasons.add(season);
+        return season;
     }
 }
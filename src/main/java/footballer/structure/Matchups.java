@@ -0,0 +1,230 @@
+package footballer.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps track of which {@link Team}s play each other, and the results of their {@link Game}s, as games are added.
+ *
+ * Every pair of teams has a primitive counter for the number of games between them, and for the number of those games each team has won and tied,
+ * so head-to-head results and common opponents can be read without scanning every game of the season.
+ * Each team also keeps the indices of its games (see {@link #getGame(int)}), in the order in which they were added.
+ * Scheduled games which have not been played ({@link Game#isPlayed()}) count as meetings but not as results.
+ */
+public class Matchups {
+    /** The number of {@link Team}s the tables have room for, which is one more than the greatest {@link Team#getId()}. */
+    private int size = 0;
+    /** The {@link Team} of each id. */
+    private Team[] teams = new Team[0];
+
+    /** The number of games between each pair of teams, flattened as {@code [id * size + opponentId]}. */
+    private int[] meetings = new int[0];
+    /** The number of played games each team won against each other team, flattened as {@code [id * size + opponentId]}. */
+    private int[] wins = new int[0];
+    /** The number of played games between each pair of teams which were ties, flattened as {@code [id * size + opponentId]}. */
+    private int[] ties = new int[0];
+
+    /** Every {@link Game}, in the order in which it was added. */
+    private final List<Game> games = new ArrayList<>();
+    /** The indices in {@link #games} of each team's games, indexed by {@link Team#getId()}. */
+    private int[][] teamGames = new int[0][];
+    /** The number of indices in use in each array of {@link #teamGames}. */
+    private int[] teamGameCounts = new int[0];
+
+    /**
+     * Adds a {@link Game} to these matchups.
+     * @param game the {@link Game} to add
+     */
+    void addGame(Game game) {
+        int home = game.homeTeam.getId();
+        int away = game.awayTeam.getId();
+        ensureCapacity(Math.max(home, away) + 1);
+        teams[home] = game.homeTeam;
+        teams[away] = game.awayTeam;
+
+        int index = games.size();
+        games.add(game);
+        addIndex(home, index);
+        addIndex(away, index);
+
+        meetings[home * size + away]++;
+        meetings[away * size + home]++;
+
+        if (!game.isPlayed()) return;
+
+        Team winner = game.getWinner();
+        if (winner == null) {
+            ties[home * size + away]++;
+            ties[away * size + home]++;
+        } else if (winner == game.homeTeam) {
+            wins[home * size + away]++;
+        } else {
+            wins[away * size + home]++;
+        }
+    }
+
+    /**
+     * Replaces every {@link Game} in these matchups, such as after some games have been removed from a {@link Season}.
+     * The indices of games are only stable until the next rebuild.
+     * @param allGames the {@link Game}s which these matchups should contain
+     */
+    void rebuild(Iterable<Game> allGames) {
+        Arrays.fill(meetings, 0);
+        Arrays.fill(wins, 0);
+        Arrays.fill(ties, 0);
+        Arrays.fill(teamGameCounts, 0);
+        games.clear();
+        for (Game game : allGames) addGame(game);
+    }
+
+    private void addIndex(int id, int index) {
+        if (teamGameCounts[id] == teamGames[id].length) teamGames[id] = Arrays.copyOf(teamGames[id], Math.max(teamGames[id].length * 2, 16));
+        teamGames[id][teamGameCounts[id]++] = index;
+    }
+
+    /**
+     * Gets the number of {@link Game}s between two {@link Team}s, whether or not they have been played.
+     * @param team the first {@link Team}
+     * @param opponent the second {@link Team}
+     * @return the number of games between {@code team} and {@code opponent}
+     */
+    public int getMeetings(Team team, Team opponent) {
+        return lookup(meetings, team, opponent);
+    }
+
+    /**
+     * Gets the number of played {@link Game}s which a {@link Team} won against another team.
+     * @param team the {@link Team} whose wins to count
+     * @param opponent the opponent {@link Team}
+     * @return the number of games {@code team} won against {@code opponent}
+     */
+    public int getWins(Team team, Team opponent) {
+        return lookup(wins, team, opponent);
+    }
+
+    /**
+     * Gets the number of played {@link Game}s which a {@link Team} lost to another team.
+     * @param team the {@link Team} whose losses to count
+     * @param opponent the opponent {@link Team}
+     * @return the number of games {@code team} lost to {@code opponent}
+     */
+    public int getLosses(Team team, Team opponent) {
+        return lookup(wins, opponent, team);
+    }
+
+    /**
+     * Gets the number of played {@link Game}s between two {@link Team}s which were ties.
+     * @param team the first {@link Team}
+     * @param opponent the second {@link Team}
+     * @return the number of ties between {@code team} and {@code opponent}
+     */
+    public int getTies(Team team, Team opponent) {
+        return lookup(ties, team, opponent);
+    }
+
+    private int lookup(int[] table, Team team, Team opponent) {
+        int id = team.getId();
+        int opponentId = opponent.getId();
+        if (id < 0 || id >= size || opponentId < 0 || opponentId >= size) return 0;
+        return table[id * size + opponentId];
+    }
+
+    /**
+     * Gets every opponent of a {@link Team}.
+     * @param team the {@link Team}
+     * @return a new {@link List} of the {@link Team}s which {@code team} plays at least once, in order of {@link Team#getId()}
+     */
+    public List<Team> getOpponents(Team team) {
+        List<Team> result = new ArrayList<>();
+        int id = team.getId();
+        if (id < 0 || id >= size) return result;
+        for (int other = 0; other < size; other++) {
+            if (meetings[id * size + other] > 0) result.add(teams[other]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the opponents which two {@link Team}s have in common, not including either of the teams.
+     * @param team the first {@link Team}
+     * @param other the second {@link Team}
+     * @return a new {@link List} of the {@link Team}s which both {@code team} and {@code other} play at least once, in order of {@link Team#getId()}
+     */
+    public List<Team> getCommonOpponents(Team team, Team other) {
+        List<Team> result = new ArrayList<>();
+        int id = team.getId();
+        int otherId = other.getId();
+        if (id < 0 || id >= size || otherId < 0 || otherId >= size) return result;
+        for (int opponent = 0; opponent < size; opponent++) {
+            if (opponent == id || opponent == otherId) continue;
+            if (meetings[id * size + opponent] > 0 && meetings[otherId * size + opponent] > 0) result.add(teams[opponent]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of {@link Game}s of a {@link Team}, whether or not they have been played.
+     * @param team the {@link Team}
+     * @return the number of games of {@code team}
+     */
+    public int getGameCount(Team team) {
+        int id = team.getId();
+        return id < 0 || id >= size ? 0 : teamGameCounts[id];
+    }
+
+    /**
+     * Gets the indices of the {@link Game}s of a {@link Team}.
+     * @param team the {@link Team}
+     * @return a new array of the indices (see {@link #getGame(int)}) of the games of {@code team}, in the order in which they were added
+     */
+    public int[] getGameIndices(Team team) {
+        int id = team.getId();
+        return id < 0 || id >= size ? new int[0] : Arrays.copyOf(teamGames[id], teamGameCounts[id]);
+    }
+
+    /**
+     * Gets the {@link Game}s of a {@link Team}.
+     * @param team the {@link Team}
+     * @return a new {@link List} of the games of {@code team}, in the order in which they were added
+     */
+    public List<Game> getGames(Team team) {
+        int id = team.getId();
+        if (id < 0 || id >= size) return Collections.emptyList();
+        List<Game> result = new ArrayList<>(teamGameCounts[id]);
+        for (int i = 0; i < teamGameCounts[id]; i++) result.add(games.get(teamGames[id][i]));
+        return result;
+    }
+
+    /**
+     * Gets a {@link Game} by its index.
+     * @param index the index of the game, from {@code 0} to the number of games (exclusive)
+     * @return the {@link Game} at {@code index}
+     */
+    public Game getGame(int index) {
+        return games.get(index);
+    }
+
+    /**
+     * Grows the tables to fit a given number of {@link Team}s, moving each row of the pairwise tables to its new position.
+     */
+    private void ensureCapacity(int newSize) {
+        if (newSize <= size) return;
+        meetings = resize(meetings, size, newSize);
+        wins = resize(wins, size, newSize);
+        ties = resize(ties, size, newSize);
+
+        teams = Arrays.copyOf(teams, newSize);
+        teamGames = Arrays.copyOf(teamGames, newSize);
+        for (int id = size; id < newSize; id++) teamGames[id] = new int[0];
+        teamGameCounts = Arrays.copyOf(teamGameCounts, newSize);
+        size = newSize;
+    }
+
+    private static int[] resize(int[] table, int oldSize, int newSize) {
+        int[] result = new int[newSize * newSize];
+        for (int row = 0; row < oldSize; row++) System.arraycopy(table, row * oldSize, result, row * newSize, oldSize);
+        return result;
+    }
+}
@@ -2,6 +2,9 @@ package footballer.structure;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -12,6 +15,17 @@ public class Season {
     private List<Conference> conferences = new ArrayList<>();
     private List<Week> weeks = new ArrayList<>();
 
+    /** Index of every {@link Team} in this season by name, maintained by {@link #addTeam(String, String, String)}. */
+    private Map<String, Team> teamsByName = new HashMap<>();
+    /** Cached (unmodifiable) list of every {@link Team} in this season, rebuilt by {@link #addTeam(String, String, String)}. */
+    private List<Team> teams = Collections.emptyList();
+    /** The number of {@link Team}s added so far, which is also the id of the next team. */
+    private int teamCount = 0;
+    /** The {@link Record}s of every {@link Team}, maintained by {@link #addGame(int, String, String, int, int)} and {@link #clearWeek(int)}. */
+    private Standings standings = new Standings();
+    /** The head-to-head {@link Matchups} of every {@link Team}, maintained by {@link #addGame(int, String, String, int, int)} and {@link #clearWeek(int)}. */
+    private Matchups matchups = new Matchups();
+
     public Season(int y) {
         year = y;
     }
@@ -44,6 +58,7 @@ public class Season {
 
     /**
      * Adds a {@link Team} to a specified {@link Division} in a specified {@link Conference} in this season.
+     * The new {@link Team} is given the next dense id in this season (see {@link Team#getId()}).
      * @param conferenceName the name of the {@link Conference} containing the {@link Division} to add the {@link Team} to
      * @param divisionName the name of the {@link Division} to add the {@link Team} to
      * @param teamName the name of the {@link Team} to be added
@@ -57,7 +72,20 @@ public class Season {
         if (conf == null) return null;
         Division div = conf.getDivision(divisionName);
         if (div == null) return null;
-        return div.addTeam(teamName);
+        Team team = div.addTeam(teamName);
+        if (team == null) return null;
+
+        team.setId(teamCount++);
+        teamsByName.putIfAbsent(teamName, team);
+
+        // Rebuild the cached list in structure order, since teams are not necessarily added in that order
+        List<Team> allTeams = new ArrayList<>();
+        for (Conference c : conferences) {
+            allTeams.addAll(c.getTeams());
+        }
+        teams = Collections.unmodifiableList(allTeams);
+
+        return team;
     }
 
     /**
@@ -72,7 +100,21 @@ public class Season {
     }
 
     /**
-     * Adds a {@link Game} to a {@link Week} in this season.
+     * Removes all of the {@link Game}s from a {@link Week} in this season, so that the week can be filled in again.
+     * @param weekNum the number of the {@link Week} to clear
+     * @return the cleared {@link Week}, or {@code null} if a {@link Week} which matches {@code weekNum} does not exist in this season
+     */
+    public Week clearWeek(int weekNum) {
+        Week week = getWeek(weekNum);
+        if (week == null) return null;
+        for (Game game : week.getGames()) standings.removeGame(game);
+        week.clearGames();
+        matchups.rebuild(getGames());
+        return week;
+    }
+
+    /**
+     * Adds a {@link Game} to a {@link Week} in this season, which is final if it has been played.
      * @param weekNum the number of the {@link Week} to add the {@link Game} to
      * @param awayTeamName the name of the away {@link Team}
      * @param homeTeamName the name of the home {@link Team}
@@ -84,12 +126,31 @@ public class Season {
      * or if a {@link Team} which matches {@code homeTeamName} does not exist in this season
      */
     public Game addGame(int weekNum, String awayTeamName, String homeTeamName, int awayTeamScore, int homeTeamScore) {
+        return addGame(weekNum, awayTeamName, homeTeamName, awayTeamScore, homeTeamScore, awayTeamScore != -1 && homeTeamScore != -1);
+    }
+
+    /**
+     * Adds a {@link Game} which may still be in progress to a {@link Week} in this season.
+     * @param weekNum the number of the {@link Week} to add the {@link Game} to
+     * @param awayTeamName the name of the away {@link Team}
+     * @param homeTeamName the name of the home {@link Team}
+     * @param awayTeamScore the score of the away {@link Team}
+     * @param homeTeamScore the score of the home {@link Team}
+     * @param isFinal whether the game is over (see {@link Game#isFinal()})
+     * @return the newly created {@link Game},
+     * or {@code null} if a {@link Week} which matches {@code weekNum} does not exist in this season,
+     * or if a {@link Team} which matches {@code awayTeamName} does not exist in this season,
+     * or if a {@link Team} which matches {@code homeTeamName} does not exist in this season
+     */
+    public Game addGame(int weekNum, String awayTeamName, String homeTeamName, int awayTeamScore, int homeTeamScore, boolean isFinal) {
         Week week = getWeek(weekNum);
         Team awayTeam = getTeam(awayTeamName);
         Team homeTeam = getTeam(homeTeamName);
         if (week == null || awayTeam == null || homeTeam == null) return null;
-        Game game = new Game(awayTeam, homeTeam, awayTeamScore, homeTeamScore);
+        Game game = new Game(awayTeam, homeTeam, awayTeamScore, homeTeamScore, isFinal);
         week.addGame(game);
+        standings.addGame(game);
+        matchups.addGame(game);
         return game;
     }
 
@@ -123,14 +184,12 @@ public class Season {
 
     /**
      * Gets a {@link Team} in this season by its name.
+     * Only {@link Team}s which were added through {@link #addTeam(String, String, String)} can be found.
      * @param teamName the name of the {@link Team} to get
      * @return the {@link Team} which matches {@code teamName}, or {@code null} if no such team exists
      */
     public Team getTeam(String teamName) {
-        for (Team team : getTeams()) {
-            if (team.name.equals(teamName)) return team;
-        }
-        return null;
+        return teamsByName.get(teamName);
     }
 
     /**
@@ -147,16 +206,38 @@ public class Season {
 
     /**
      * Gets a {@link List} of all {@link Team}s in this season.
-     * @return a {@link List} of all {@link Team}s in this season
+     * Only {@link Team}s which were added through {@link #addTeam(String, String, String)} are included.
+     * @return an unmodifiable {@link List} of all {@link Team}s in this season
      */
     public List<Team> getTeams() {
-        List<Team> teams = new ArrayList<>();
-        for (Conference conf : conferences) {
-            teams.addAll(conf.getTeams());
-        }
         return teams;
     }
 
+    /**
+     * Gets the number of the last {@link Week} in this season.
+     * @return the greatest {@link Week} number in this season, or {@code 0} if this season has no weeks
+     */
+    public int getLastWeekNumber() {
+        int last = 0;
+        for (Week week : weeks) {
+            if (week.number > last) last = week.number;
+        }
+        return last;
+    }
+
+    /**
+     * Determines if this season is final.
+     * A season is final when it has weeks and every one of them is final ({@link Week#isFinal()}), so it will not change anymore.
+     * @return {@code true} if the season is final, or {@code false} otherwise
+     */
+    public boolean isFinal() {
+        if (weeks.isEmpty()) return false;
+        for (Week week : weeks) {
+            if (!week.isFinal()) return false;
+        }
+        return true;
+    }
+
     /**
      * Gets a {@link List} of all {@link Week}s in this season.
      * @return a {@link List} of all {@link Week}s in this season
@@ -185,38 +266,32 @@ public class Season {
         return conferences;
     }
 
+    /**
+     * Gets the {@link Standings} of this season, which are kept up to date as {@link Game}s are added.
+     * @return the {@link Standings} of this season
+     */
+    public Standings getStandings() {
+        return standings;
+    }
+
+    /**
+     * Gets the head-to-head {@link Matchups} of this season, which are kept up to date as {@link Game}s are added.
+     * @return the {@link Matchups} of this season
+     */
+    public Matchups getMatchups() {
+        return matchups;
+    }
+
     /**
      * Gets a {@link Record} for a {@link Team} in this season by its name.
+     * Only {@link Game}s which have been played count towards the record.
      * @param teamName the name of the {@link Team} to get the {@link Record} for
      * @return the {@link Record} for the {@link Team} which matches {@code teamName}, or {@code null} if no such team exists
      */
     public Record getRecord(String teamName) {
         Team team = getTeam(teamName);
         if (team == null) return null;
-
-        int homeWins = 0;
-        int awayWins = 0;
-        int homeLosses = 0;
-        int awayLosses = 0;
-        int ties = 0;
-
-        List<Game> games = getGames();
-
-        for (Game game : games) {
-            if (game.homeTeam == team && game.homeTeamScore > game.awayTeamScore) {
-                homeWins++;
-            } else if (game.awayTeam == team && game.awayTeamScore > game.homeTeamScore) {
-                awayWins++;
-            } else if (game.homeTeam == team && game.awayTeamScore > game.homeTeamScore) {
-                homeLosses++;
-            } else if (game.awayTeam == team && game.homeTeamScore > game.awayTeamScore) {
-                awayLosses++;
-            } else {
-                ties++;
-            }
-        }
-
-        return new Record(team, homeWins, awayWins, homeLosses, awayLosses, ties);
+        return standings.getRecord(team);
     }
 
     /**
@@ -226,7 +301,7 @@ public class Season {
     public List<Record> getRecords() {
         List<Record> records = new ArrayList<>();
         for (Team team : getTeams()) {
-            records.add(getRecord(team.name));
+            records.add(standings.getRecord(team));
         }
         return records;
     }
@@ -0,0 +1,102 @@
+package footballer.structure;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of the {@link Record} of every {@link Team} as {@link Game}s are added.
+ *
+ * Records are kept as primitive counters indexed by {@link Team#getId()}, so adding a game and reading a record are both constant time.
+ * Only games which have been played ({@link Game#isPlayed()}) count towards a record.
+ */
+public class Standings {
+    private int[] homeWins = new int[0];
+    private int[] awayWins = new int[0];
+    private int[] homeLosses = new int[0];
+    private int[] awayLosses = new int[0];
+    private int[] ties = new int[0];
+
+    /**
+     * Adds the result of a {@link Game} to these standings.
+     * @param game the {@link Game} to add
+     */
+    void addGame(Game game) {
+        apply(game, 1);
+    }
+
+    /**
+     * Removes the result of a {@link Game} which was previously added to these standings.
+     * @param game the {@link Game} to remove
+     */
+    void removeGame(Game game) {
+        apply(game, -1);
+    }
+
+    private void apply(Game game, int amount) {
+        if (!game.isPlayed()) return;
+
+        int home = game.homeTeam.getId();
+        int away = game.awayTeam.getId();
+        ensureCapacity(Math.max(home, away) + 1);
+
+        if (game.homeTeamScore > game.awayTeamScore) {
+            homeWins[home] += amount;
+            awayLosses[away] += amount;
+        } else if (game.awayTeamScore > game.homeTeamScore) {
+            awayWins[away] += amount;
+            homeLosses[home] += amount;
+        } else {
+            ties[home] += amount;
+            ties[away] += amount;
+        }
+    }
+
+    /**
+     * Gets the {@link Record} of a {@link Team}.
+     * @param team the {@link Team} to get the {@link Record} for
+     * @return a new {@link Record} with the current wins, losses and ties of {@code team}
+     */
+    public Record getRecord(Team team) {
+        int id = team.getId();
+        if (id < 0 || id >= ties.length) return new Record(team, 0, 0, 0, 0, 0);
+        return new Record(team, homeWins[id], awayWins[id], homeLosses[id], awayLosses[id], ties[id]);
+    }
+
+    /**
+     * Gets the number of wins of a {@link Team}.
+     * @param team the {@link Team} to get the wins for
+     * @return the number of home and away wins of {@code team}
+     */
+    public int getWins(Team team) {
+        int id = team.getId();
+        return id < 0 || id >= ties.length ? 0 : homeWins[id] + awayWins[id];
+    }
+
+    /**
+     * Gets the number of losses of a {@link Team}.
+     * @param team the {@link Team} to get the losses for
+     * @return the number of home and away losses of {@code team}
+     */
+    public int getLosses(Team team) {
+        int id = team.getId();
+        return id < 0 || id >= ties.length ? 0 : homeLosses[id] + awayLosses[id];
+    }
+
+    /**
+     * Gets the number of ties of a {@link Team}.
+     * @param team the {@link Team} to get the ties for
+     * @return the number of ties of {@code team}
+     */
+    public int getTies(Team team) {
+        int id = team.getId();
+        return id < 0 || id >= ties.length ? 0 : ties[id];
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= ties.length) return;
+        homeWins = Arrays.copyOf(homeWins, size);
+        awayWins = Arrays.copyOf(awayWins, size);
+        homeLosses = Arrays.copyOf(homeLosses, size);
+        awayLosses = Arrays.copyOf(awayLosses, size);
+        ties = Arrays.copyOf(ties, size);
+    }
+}
@@ -5,11 +5,26 @@ package footballer.structure;
  */
 public class Team {
     public final String name;
+    private int id = -1;
 
     public Team(String n) {
         name = n;
     }
 
+    /**
+     * Gets the id of this team.
+     * Ids are assigned by {@link Season#addTeam(String, String, String)} and are dense,
+     * so the ids of the {@link Team}s in a {@link Season} are {@code 0} through the number of teams minus one.
+     * @return the id of this team, or {@code -1} if it was not added through a {@link Season}
+     */
+    public int getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = id;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -33,6 +33,26 @@ public class Week {
         return games.size() == 0;
     }
 
+    /**
+     * Determines if a week is final.
+     * A week is final when it has games and every one of them is final ({@link Game#isFinal()}), so it will not change anymore.
+     * @return {@code true} if the week is final, or {@code false} otherwise
+     */
+    public boolean isFinal() {
+        if (isEmpty()) return false;
+        for (Game game : games) {
+            if (!game.isFinal()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all of the {@link Game}s from this week.
+     */
+    void clearGames() {
+        games.clear();
+    }
+
     /**
      * Gets all of the {@link Game}s in this week.
      * @return a {@link List} of all {@link Game}s in this week
@@ -0,0 +1,164 @@
+package footballer.web;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Season;
+import footballer.web.data.Dataset;
+
+/**
+ * Keeps whole {@link Season}s and the {@link RankingSystem}s which have been applied to them, so that requests can be answered without replaying games.
+ *
+ * Each {@link RankingSystem} is applied to the whole season once, and any week's rankings are then read from the weekly checkpoints in its log.
+ * A season which is final is kept as it is, while a season which still has games to be played is refreshed in place once it is out of date.
+ * After a refresh, each {@link RankingSystem} is rewound to just before the earliest week which changed and only the games from there on are applied again.
+ * All access to the data of one season year is synchronized on that year, since seasons and ranking systems are not thread-safe.
+ */
+public class RankingStore {
+    private static class Year {
+        Season season;
+        long loadedAt;
+        final Map<String, RankingSystem> rankingSystems = new HashMap<>();
+    }
+
+    private final IntFunction<Season> loader;
+    private final ToIntFunction<Season> refresher;
+    private final long openTimeToLive;
+    private final ConcurrentMap<Integer, Year> years = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a ranking store.
+     * @param loader the function which loads a whole {@link Season} by its year
+     * @param refresher the function which brings a {@link Season} up to date in place and returns the number of the earliest week which changed,
+     * or {@code -1} if nothing changed (such as {@link footballer.parse.Parser#refreshSeason(Season, int)})
+     * @param openTimeToLive the number of milliseconds after which a {@link Season} which is not final is refreshed
+     */
+    public RankingStore(IntFunction<Season> loader, ToIntFunction<Season> refresher, long openTimeToLive) {
+        this.loader = loader;
+        this.refresher = refresher;
+        this.openTimeToLive = openTimeToLive;
+    }
+
+    /**
+     * Gets the whole {@link Season} for a year, loading it if necessary.
+     * The returned {@link Season} must not be modified.
+     * @param year the year of the season
+     * @return the {@link Season} which matches {@code year}
+     */
+    public Season getSeason(int year) {
+        Year entry = years.computeIfAbsent(year, y -> new Year());
+        synchronized (entry) {
+            return load(year, entry);
+        }
+    }
+
+    /**
+     * Determines if the {@link Season} for a year is final, loading it if necessary.
+     * @param year the year of the season
+     * @return {@code true} if the season which matches {@code year} is final, or {@code false} otherwise
+     */
+    public boolean isFinal(int year) {
+        Year entry = years.computeIfAbsent(year, y -> new Year());
+        synchronized (entry) {
+            return load(year, entry).isFinal();
+        }
+    }
+
+    /**
+     * Creates a {@link Dataset} for a {@link RankingSystem} up to a given week from the weekly checkpoints of the whole season.
+     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches {@code rankingSystemName} can be found.
+     * @param year the year of the season
+     * @param rankingSystemName the name of the {@link RankingSystem} (one of {@link RankingSystems#names})
+     * @param upToWeek the last week (inclusive) to include in the {@link Dataset}
+     * @return the {@link Dataset}
+     */
+    public Dataset getDataset(int year, String rankingSystemName, int upToWeek) {
+        return read(year, rankingSystemName, (season, rankingSystem) -> new Dataset(rankingSystem, upToWeek));
+    }
+
+    /**
+     * Reads the {@link Season} of a year along with a {@link RankingSystem} which has been applied to the whole season.
+     * The reader is called while the year is locked, so it must copy anything it needs rather than keeping the {@link Season} or {@link RankingSystem}.
+     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches {@code rankingSystemName} can be found.
+     * @param year the year of the season
+     * @param rankingSystemName the name of the {@link RankingSystem} (one of {@link RankingSystems#names})
+     * @param reader the function which reads the {@link Season} and the applied {@link RankingSystem}
+     * @param <T> the type of the result of {@code reader}
+     * @return the result of {@code reader}
+     */
+    public <T> T read(int year, String rankingSystemName, BiFunction<Season, RankingSystem, T> reader) {
+        Year entry = years.computeIfAbsent(year, y -> new Year());
+        synchronized (entry) {
+            Season season = load(year, entry);
+            return reader.apply(season, getRankingSystem(entry, season, rankingSystemName));
+        }
+    }
+
+    /**
+     * Reads the {@link Season} of a year along with several {@link RankingSystem}s which have been applied to the whole season,
+     * all while the year is locked once, so that they agree with each other and with the final flag of the season.
+     * The reader must copy anything it needs rather than keeping the {@link Season} or any {@link RankingSystem}.
+     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches one of {@code rankingSystemNames} can be found.
+     * @param year the year of the season
+     * @param rankingSystemNames the names of the {@link RankingSystem}s (each one of {@link RankingSystems#names})
+     * @param reader the function which reads the {@link Season} and the applied {@link RankingSystem}s by name, in the order of {@code rankingSystemNames}
+     * @param <T> the type of the result of {@code reader}
+     * @return the result of {@code reader}
+     */
+    public <T> T read(int year, String[] rankingSystemNames, BiFunction<Season, Map<String, RankingSystem>, T> reader) {
+        Year entry = years.computeIfAbsent(year, y -> new Year());
+        synchronized (entry) {
+            Season season = load(year, entry);
+            Map<String, RankingSystem> rankingSystems = new LinkedHashMap<>();
+            for (String rankingSystemName : rankingSystemNames) {
+                rankingSystems.put(rankingSystemName, getRankingSystem(entry, season, rankingSystemName));
+            }
+            return reader.apply(season, rankingSystems);
+        }
+    }
+
+    /**
+     * Gets a {@link RankingSystem} of a year, creating it and applying it to the whole {@link Season} if it does not exist yet.
+     * Must be called while the year is locked, after {@link #load(int, Year)}.
+     */
+    private RankingSystem getRankingSystem(Year entry, Season season, String rankingSystemName) {
+        RankingSystem rankingSystem = entry.rankingSystems.get(rankingSystemName);
+        if (rankingSystem == null) {
+            rankingSystem = RankingSystems.create(season, rankingSystemName);
+            rankingSystem.applyGames(season);
+            entry.rankingSystems.put(rankingSystemName, rankingSystem);
+        }
+        return rankingSystem;
+    }
+
+    /**
+     * Loads the {@link Season} of a year if it has not been loaded yet, or refreshes it if it is not final and out of date.
+     * After a refresh which changed the season, every {@link RankingSystem} of the year is brought up to date incrementally.
+     */
+    private Season load(int year, Year entry) {
+        long now = System.currentTimeMillis();
+
+        if (entry.season == null) {
+            entry.season = loader.apply(year);
+            entry.loadedAt = now;
+        } else if (!entry.season.isFinal() && now - entry.loadedAt > openTimeToLive) {
+            int earliestChange = refresher.applyAsInt(entry.season);
+            entry.loadedAt = now;
+            if (earliestChange != -1) {
+                for (RankingSystem rankingSystem : entry.rankingSystems.values()) {
+                    rankingSystem.rewind(earliestChange - 1);
+                    rankingSystem.applyGames(entry.season);
+                }
+            }
+        }
+
+        return entry.season;
+    }
+}
@@ -0,0 +1,64 @@
+package footballer.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Defines a bounded, in-process cache of serialized API responses.
+ *
+ * When the cache is full, the least recently used response is evicted.
+ * Each response is only kept for a limited time, which is short for responses which can still change
+ * (such as those for weeks which are still being played), so that no response is served forever.
+ */
+public class ResponseCache {
+    private static class CachedResponse {
+        final String body;
+        final long expiresAt;
+
+        CachedResponse(String body, long expiresAt) {
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<String, CachedResponse> responses;
+
+    /**
+     * Creates a response cache.
+     * @param maxEntries the maximum number of responses to keep before evicting the least recently used one
+     */
+    public ResponseCache(int maxEntries) {
+        responses = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) { // Access order, for LRU eviction
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets a cached response.
+     * @param key the key of the response
+     * @return the cached response body, or {@code null} if no response is cached for {@code key} or if it has expired
+     */
+    public synchronized String get(String key) {
+        CachedResponse response = responses.get(key);
+        if (response == null) return null;
+        if (response.expiresAt < System.currentTimeMillis()) {
+            responses.remove(key);
+            return null;
+        }
+        return response.body;
+    }
+
+    /**
+     * Caches a response, replacing any response which is already cached for the same key.
+     * @param key the key of the response
+     * @param body the response body
+     * @param timeToLive the number of milliseconds to keep the response for (unless it is evicted first)
+     */
+    public synchronized void put(String key, String body, long timeToLive) {
+        long expiresAt = System.currentTimeMillis() + timeToLive;
+        responses.put(key, new CachedResponse(body, expiresAt));
+    }
+}
@@ -1,54 +1,278 @@
 package footballer.web;
 
 import com.google.gson.Gson;
+import footballer.Utils;
+import footballer.analytics.ScheduleStrength;
+import footballer.parse.DirectorySource;
 import footballer.parse.Parser;
+import footballer.ranking.RankingSystems;
+import footballer.simulation.SeasonSimulator;
+import footballer.storage.SeasonSnapshot;
 import footballer.structure.Season;
 import static spark.Spark.*;
 import footballer.web.data.Dataset;
+import footballer.web.data.PlayoffOdds;
+import footballer.web.data.Projections;
+import footballer.web.data.StrengthDataset;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Defines the entry point for the web component of this application.
  */
 public class Server {
+    /** The maximum number of API responses to cache. */
+    private static final int MAX_CACHED_RESPONSES = 512;
+    /** The number of milliseconds to cache an API response for a season which still has games to be played. */
+    private static final long OPEN_RESPONSE_TIME_TO_LIVE = 60 * 1000;
+    /**
+     * The number of milliseconds to cache an API response for a final season.
+     * A final season should not change anymore, but its responses still expire in case it was wrongly considered final.
+     */
+    private static final long FINAL_RESPONSE_TIME_TO_LIVE = 24 * 60 * 60 * 1000;
+    /** The number of seasons to simulate for projections, which takes well under a second on a few cores. */
+    private static final int SIMULATION_ITERATIONS = 200000;
+    /** The seed for simulations, so the same season and ranks always give the same projections. */
+    private static final long SIMULATION_SEED = 2017;
+
+    /**
+     * The directory which whole {@link Season}s are saved to as {@link SeasonSnapshot}s, so a restart only fetches the weeks which are not final yet,
+     * or {@code null} if snapshots are not saved.
+     */
+    private static Path snapshotDirectory = Paths.get(System.getProperty("user.home"), ".footballer", "seasons");
+
+    private static final ResponseCache responseCache = new ResponseCache(MAX_CACHED_RESPONSES);
+    /** Coalesces concurrent builds of the same expensive response, such as a simulation, so a burst of identical requests only builds it once. */
+    private static final SingleFlight<String, String> responseBuilds = new SingleFlight<>();
+    private static final RankingStore rankingStore = new RankingStore(Server::loadWholeSeason, Server::refreshWholeSeason, OPEN_RESPONSE_TIME_TO_LIVE);
 
     /**
      * Initializes the API endpoints and frontend server based on the ranking systems defined in this method.
+     *
+     * If the {@code footballer.scorestrips} system property is set, games are read from the recorded scorestrips in that directory
+     * (see {@link DirectorySource}) instead of the NFL website.
+     * Otherwise, each whole season is saved as a {@link SeasonSnapshot} in {@code ~/.footballer/seasons} once it has been loaded,
+     * so after a restart only the weeks which were not final yet are fetched again.
+     *
      * @param args command line arguments (currently not used)
      */
     public static void main(String[] args) {
+        String scorestrips = System.getProperty("footballer.scorestrips");
+        if (scorestrips != null) {
+            Parser.setSource(new DirectorySource(Paths.get(scorestrips)));
+            Parser.setCache(null); // Recorded scorestrips are already on disk
+            snapshotDirectory = null;
+        }
+
         staticFileLocation("/public");
 
-        String[] rankingSystems = {"evenplay", "adjustedwins", "selfbased"};
+        String[] rankingSystems = RankingSystems.names;
 
         path("/api", () -> {
             Gson gson = new Gson();
 
             get("/:year/divisions", (req, res) -> {
                 int year = Integer.parseInt(req.params("year"));
-                Season season = Parser.parseCurrentStructure(year, 1);
+                Season season = Utils.createCurrentStructure(year); // Only the structure is needed, not any games
                 return season.getDivisionNames();
             }, gson::toJson);
 
+            get("/:year/week/:week/rankings", (req, res) -> { // Every ranking system by week, from one shared season
+                int year = Integer.parseInt(req.params("year"));
+                int week = Integer.parseInt(req.params("week"));
+                String key = year + "/all/" + week;
+                String result = responseCache.get(key);
+                if (result != null) return result;
+
+                return rankingStore.read(year, rankingSystems, (season, systems) -> { // Every dataset and the final flag come from the same state of the season
+                    Map<String, Object> datasets = new LinkedHashMap<>();
+                    systems.forEach((rS, rankingSystem) -> datasets.put(rS, new Dataset(rankingSystem, week).getEntries()));
+                    String json = gson.toJson(datasets);
+                    cache(key, json, season.isFinal());
+                    return json;
+                });
+            });
+
+            get("/:year/week/:week/rankings/conference/:conference/division/:division", (req, res) -> { // Every ranking system by week scoped by division
+                int year = Integer.parseInt(req.params("year"));
+                int week = Integer.parseInt(req.params("week"));
+                String conference = req.params("conference");
+                String division = req.params("division");
+                String key = year + "/all/" + week + "/" + conference + "/" + division;
+                String result = responseCache.get(key);
+                if (result != null) return result;
+
+                return rankingStore.read(year, rankingSystems, (season, systems) -> {
+                    Map<String, Object> datasets = new LinkedHashMap<>();
+                    systems.forEach((rS, rankingSystem) -> datasets.put(rS, new Dataset(rankingSystem, week).filterByDivision(season, conference, division).getEntries()));
+                    String json = gson.toJson(datasets);
+                    cache(key, json, season.isFinal());
+                    return json;
+                });
+            });
+
             for (String rS : rankingSystems) {
                 get("/:year/ranking/" + rS + "/week/:week", (req, res) -> { // Generate one default route for each ranking system by week
                     int year = Integer.parseInt(req.params("year"));
                     int week = Integer.parseInt(req.params("week"));
-                    Season season = Parser.parseCurrentStructure(year, week);
-                    String result = new Dataset(season, rS, week).serialize();
+                    String key = year + "/" + rS + "/" + week;
+                    String result = responseCache.get(key);
+                    if (result != null) return result;
+
+                    result = rankingStore.getDataset(year, rS, week).serialize();
+                    cache(key, result, rankingStore.isFinal(year));
+                    return result;
+                });
+
+                get("/:year/ranking/" + rS + "/week/:week/strength", (req, res) -> { // Generate one route for each ranking system's strength of schedule and victory by week
+                    int year = Integer.parseInt(req.params("year"));
+                    int week = Integer.parseInt(req.params("week"));
+                    String key = year + "/" + rS + "/" + week + "/strength";
+                    String result = responseCache.get(key);
+                    if (result != null) return result;
+
+                    result = rankingStore.read(year, rS, (season, rankingSystem) -> new StrengthDataset(new ScheduleStrength(season, rankingSystem), week)).serialize();
+                    cache(key, result, rankingStore.isFinal(year));
                     return result;
                 });
 
+                get("/:year/ranking/" + rS + "/projections", (req, res) -> { // Generate one route for each ranking system's projected standings
+                    int year = Integer.parseInt(req.params("year"));
+                    String key = year + "/" + rS + "/projections";
+                    return buildResponse(key, year, () -> {
+                        Season season = rankingStore.getSeason(year);
+                        SeasonSimulator simulator = rankingStore.read(year, rS, SeasonSimulator::new);
+                        return new Projections(season.getTeams(), simulator.simulate(SIMULATION_ITERATIONS, SIMULATION_SEED)).serialize();
+                    });
+                });
+
+                get("/:year/ranking/" + rS + "/playoffs", (req, res) -> { // Generate one route for each ranking system's playoff odds
+                    int year = Integer.parseInt(req.params("year"));
+                    String key = year + "/" + rS + "/playoffs";
+                    return buildResponse(key, year, () -> {
+                        Season season = rankingStore.getSeason(year);
+                        SeasonSimulator simulator = rankingStore.read(year, rS, SeasonSimulator::new);
+                        return new PlayoffOdds(season.getTeams(), simulator.simulatePlayoffs(SIMULATION_ITERATIONS, SIMULATION_SEED)).serialize();
+                    });
+                });
+
                 get("/:year/ranking/" + rS + "/week/:week/conference/:conference/division/:division", (req, res) -> { // Generate one route for each ranking system by week scoped by division
                     int year = Integer.parseInt(req.params("year"));
                     int week = Integer.parseInt(req.params("week"));
                     String conference = req.params("conference");
                     String division = req.params("division");
-                    Season season = Parser.parseCurrentStructure(year, week);
-                    String result = new Dataset(season, rS, week).filterByDivision(season, conference, division).serialize();
+                    String key = year + "/" + rS + "/" + week + "/" + conference + "/" + division;
+                    String result = responseCache.get(key);
+                    if (result != null) return result;
+
+                    Season season = rankingStore.getSeason(year);
+                    result = rankingStore.getDataset(year, rS, week).filterByDivision(season, conference, division).serialize();
+                    cache(key, result, rankingStore.isFinal(year));
                     return result;
                 });
             }
         });
     }
 
+    /**
+     * Loads the whole {@link Season} of a year for the {@link RankingStore}.
+     * If a {@link SeasonSnapshot} of the season was saved by an earlier run, it is read and only the weeks which are not final are fetched again
+     * (see {@link Parser#refreshSeason(Season, int)}). Otherwise the season is parsed from scratch, and a snapshot of it is saved.
+     * @param year the year of the season
+     * @return the whole {@link Season}
+     */
+    private static Season loadWholeSeason(int year) {
+        int weeks = Utils.getRegularSeasonWeeks(year);
+        Season season = readSnapshot(year);
+
+        if (season == null) {
+            season = Parser.parseCurrentStructure(year, weeks, true);
+        } else if (Parser.refreshSeason(season, weeks) == -1) {
+            return season;
+        }
+        writeSnapshot(season);
+        return season;
+    }
+
+    /**
+     * Brings a whole {@link Season} up to date for the {@link RankingStore}, and saves a new {@link SeasonSnapshot} of it if it changed.
+     * @param season the {@link Season} to refresh
+     * @return the number of the earliest week which changed, or {@code -1} if the season did not change
+     */
+    private static int refreshWholeSeason(Season season) {
+        int earliestChange = Parser.refreshSeason(season, Utils.getRegularSeasonWeeks(season.year));
+        if (earliestChange != -1) writeSnapshot(season);
+        return earliestChange;
+    }
+
+    /**
+     * Reads the saved {@link SeasonSnapshot} of a year.
+     * @param year the year of the season
+     * @return the {@link Season} in the snapshot, or {@code null} if snapshots are not saved, or if there is no valid snapshot for {@code year}
+     */
+    private static Season readSnapshot(int year) {
+        if (snapshotDirectory == null) return null;
+        Path file = snapshotDirectory.resolve(year + ".fbss");
+        if (!Files.isRegularFile(file)) return null;
+
+        try {
+            return SeasonSnapshot.read(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Saves a {@link SeasonSnapshot} of a {@link Season}, replacing any earlier snapshot of the same year.
+     * @param season the {@link Season} to save
+     */
+    private static void writeSnapshot(Season season) {
+        if (snapshotDirectory == null) return;
+
+        try {
+            Files.createDirectories(snapshotDirectory);
+            SeasonSnapshot.write(season, snapshotDirectory.resolve(season.year + ".fbss"));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets an API response from the {@link ResponseCache}, or builds and caches it if it is not cached.
+     * Concurrent requests for the same response which is not cached share a single build.
+     * @param key the key of the response
+     * @param year the year of the {@link Season} which the response is built from
+     * @param builder the function which builds the response body
+     * @return the response body
+     */
+    private static String buildResponse(String key, int year, Supplier<String> builder) {
+        String result = responseCache.get(key);
+        if (result != null) return result;
+
+        return responseBuilds.get(key, () -> {
+            String cached = responseCache.get(key); // Another build may have just finished
+            if (cached != null) return cached;
+
+            String body = builder.get();
+            cache(key, body, rankingStore.isFinal(year));
+            return body;
+        });
+    }
+
+    /**
+     * Caches an API response which was built from a {@link Season}.
+     * Responses for a final season are cached for a day, while responses for a season which is still being played are only cached briefly.
+     * @param key the key of the response
+     * @param body the response body
+     * @param seasonFinal whether the {@link Season} which the response was built from is final
+     */
+    private static void cache(String key, String body, boolean seasonFinal) {
+        responseCache.put(key, body, seasonFinal ? FINAL_RESPONSE_TIME_TO_LIVE : OPEN_RESPONSE_TIME_TO_LIVE);
+    }
 }
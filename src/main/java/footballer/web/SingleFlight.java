@@ -0,0 +1,53 @@
+package footballer.web;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations of the same value.
+ *
+ * While a value is being computed for a key, any other caller asking for the same key waits for that computation and gets its result,
+ * instead of starting its own.
+ * Once the computation finishes, the next caller for the key starts a new computation, so nothing is cached here.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the computed values
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the value for a key, either by computing it or by waiting for a computation for the same key which is already running.
+     * If the computation throws a {@link RuntimeException}, every caller waiting on it gets the same exception.
+     * @param key the key of the value
+     * @param computation the computation to run if no computation for {@code key} is already running
+     * @return the computed value
+     */
+    public V get(K key, Supplier<V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+}
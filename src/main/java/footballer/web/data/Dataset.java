@@ -1,11 +1,7 @@
 package footballer.web.data;
 
-import footballer.Utils;
 import footballer.ranking.RankingSystem;
 import footballer.ranking.logging.Log;
-import footballer.ranking.system.AdjustedWins;
-import footballer.ranking.system.EvenPlay;
-import footballer.ranking.system.SelfBased;
 import footballer.structure.Season;
 import footballer.structure.Team;
 import java.util.ArrayList;
@@ -14,7 +10,6 @@ import java.util.stream.Collectors;
 import com.google.gson.Gson;
 
 public class Dataset {
-
     private static class DatasetEntry {
         public final String label;
         public final List<Double> data;
@@ -27,47 +22,15 @@ public class Dataset {
     private List<DatasetEntry> entries = new ArrayList<>();
 
     /**
-     * Creates a {@link Dataset} for a given {@link RankingSystem} up to a given {@link footballer.structure.Week}.
-     * Throws a {@link RuntimeException} if no {@link RankingSystem} which matches {@code rankingSystemName} can be found.
-     * @param rankingSystemName the name of the {@link RankingSystem} to create the {@link Dataset} for
-     * @param upToWeek the {@link footballer.structure.Week} maximum number (inclusive) for which the {@link RankingSystem} should be populated
+     * Creates a {@link Dataset} from a {@link RankingSystem} which has already been applied,
+     * using the weekly checkpoints in its {@link Log} instead of replaying any games.
+     * @param rankingSystem the applied {@link RankingSystem} to create the {@link Dataset} for
+     * @param upToWeek the {@link footballer.structure.Week} maximum number (inclusive) to include in the {@link Dataset}
      */
-    public Dataset(Season season, String rankingSystemName, int upToWeek) {
-        String[] teamNames = Utils.espnPreseasonRankings2017;
-        List<Team> teams = season.getTeams();
-
-        RankingSystem rankingSystem;
-        int maxBaseline;
-
-        switch (rankingSystemName) {
-            case "evenplay":
-                maxBaseline = 16;
-                rankingSystem = new EvenPlay(teams, 0.5);
-                break;
-
-            case "adjustedwins":
-                maxBaseline = 0;
-                rankingSystem = new AdjustedWins(teams);
-                break;
-
-            case "selfbased":
-                maxBaseline = 16;
-                rankingSystem = new SelfBased(teams);
-                break;
-
-            default:
-                throw new RuntimeException("Cannot create dataset for ranking system: " + rankingSystemName + "!");
-        }
-
-        rankingSystem.generateBaselineRanks(teamNames, 0, maxBaseline);
-        rankingSystem.applyGames(season);
-
-        populateFromLog(rankingSystem.getLog());
-    }
-
-    private void populateFromLog(Log log) {
+    public Dataset(RankingSystem rankingSystem, int upToWeek) {
+        Log log = rankingSystem.getLog();
         for (Team team : log.getTeams()) {
-            entries.add(new DatasetEntry(team.name, log.getTeamValues(team.name)));
+            entries.add(new DatasetEntry(team.name, log.getTeamValues(team.name, upToWeek)));
         }
     }
 
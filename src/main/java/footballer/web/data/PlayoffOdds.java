@@ -0,0 +1,62 @@
+package footballer.web.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.gson.Gson;
+import footballer.Utils;
+import footballer.simulation.PlayoffObserver;
+import footballer.structure.Season;
+import footballer.structure.Team;
+
+/**
+ * Defines the playoff odds of every {@link Team} in a {@link Season}, from a simulation of the rest of the season.
+ */
+public class PlayoffOdds {
+    private static class PlayoffOddsEntry {
+        public final String label;
+        public final double playoffs;
+        public final double divisionWin;
+        public final double bye;
+        public final List<Double> seeds;
+
+        public PlayoffOddsEntry(String label, double playoffs, double divisionWin, double bye, List<Double> seeds) {
+            this.label = label;
+            this.playoffs = playoffs;
+            this.divisionWin = divisionWin;
+            this.bye = bye;
+            this.seeds = seeds;
+        }
+    }
+    private List<PlayoffOddsEntry> entries = new ArrayList<>();
+
+    /**
+     * Creates the playoff odds for every {@link Team} from a finished simulation.
+     * @param teams the {@link Team}s to include, in order
+     * @param observer the merged {@link PlayoffObserver} of the simulation
+     */
+    public PlayoffOdds(List<Team> teams, PlayoffObserver observer) {
+        for (Team team : teams) {
+            List<Double> seeds = new ArrayList<>();
+            for (double seed : observer.getSeedDistribution(team)) seeds.add(Utils.roundDecimal(seed, 4));
+
+            entries.add(new PlayoffOddsEntry(team.name,
+                    Utils.roundDecimal(observer.getPlayoffProbability(team), 4),
+                    Utils.roundDecimal(observer.getDivisionWinProbability(team), 4),
+                    Utils.roundDecimal(observer.getByeProbability(team), 4),
+                    seeds));
+        }
+    }
+
+    public List<PlayoffOddsEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Serializes the {@link PlayoffOdds} to JSON using {@link Gson}, as the inner array of entries without any wrapping object.
+     * @return the JSON representation of these playoff odds
+     */
+    public String serialize() {
+        Gson gson = new Gson();
+        return gson.toJson(this.getEntries());
+    }
+}
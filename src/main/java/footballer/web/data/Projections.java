@@ -0,0 +1,65 @@
+package footballer.web.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.gson.Gson;
+import footballer.Utils;
+import footballer.simulation.StandingsObserver;
+import footballer.structure.Season;
+import footballer.structure.Team;
+
+/**
+ * Defines the projected standings of every {@link Team} in a {@link Season}, from a simulation of the rest of the season.
+ */
+public class Projections {
+    private static class ProjectionEntry {
+        public final String label;
+        public final double expectedWins;
+        public final double divisionWin;
+        public final List<Double> wins;
+        public final List<Double> divisionPlaces;
+
+        public ProjectionEntry(String label, double expectedWins, double divisionWin, List<Double> wins, List<Double> divisionPlaces) {
+            this.label = label;
+            this.expectedWins = expectedWins;
+            this.divisionWin = divisionWin;
+            this.wins = wins;
+            this.divisionPlaces = divisionPlaces;
+        }
+    }
+    private List<ProjectionEntry> entries = new ArrayList<>();
+
+    /**
+     * Creates the projections for every {@link Team} from a finished simulation.
+     * @param teams the {@link Team}s to include, in order
+     * @param observer the merged {@link StandingsObserver} of the simulation
+     */
+    public Projections(List<Team> teams, StandingsObserver observer) {
+        for (Team team : teams) {
+            entries.add(new ProjectionEntry(team.name,
+                    Utils.roundDecimal(observer.getExpectedWins(team), 2),
+                    Utils.roundDecimal(observer.getDivisionWinProbability(team), 4),
+                    round(observer.getWinDistribution(team)),
+                    round(observer.getDivisionPlaceDistribution(team))));
+        }
+    }
+
+    private static List<Double> round(double[] values) {
+        List<Double> result = new ArrayList<>();
+        for (double value : values) result.add(Utils.roundDecimal(value, 4));
+        return result;
+    }
+
+    public List<ProjectionEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Serializes the {@link Projections} to JSON using {@link Gson}, as the inner array of entries without any wrapping object.
+     * @return the JSON representation of these projections
+     */
+    public String serialize() {
+        Gson gson = new Gson();
+        return gson.toJson(this.getEntries());
+    }
+}
@@ -0,0 +1,68 @@
+package footballer.web.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.gson.Gson;
+import footballer.Utils;
+import footballer.analytics.ScheduleStrength;
+import footballer.structure.Team;
+
+/**
+ * Defines the weekly strength of schedule and strength of victory of every {@link Team}, raw and weighted by a {@link footballer.ranking.RankingSystem}.
+ */
+public class StrengthDataset {
+    private static class StrengthEntry {
+        public final String label;
+        public final List<Double> sos;
+        public final List<Double> sov;
+        public final List<Double> weightedSos;
+        public final List<Double> weightedSov;
+
+        public StrengthEntry(String label, List<Double> sos, List<Double> sov, List<Double> weightedSos, List<Double> weightedSov) {
+            this.label = label;
+            this.sos = sos;
+            this.sov = sov;
+            this.weightedSos = weightedSos;
+            this.weightedSov = weightedSov;
+        }
+    }
+    private List<StrengthEntry> entries = new ArrayList<>();
+
+    /**
+     * Creates a {@link StrengthDataset} up to a given {@link footballer.structure.Week}.
+     * @param strength the computed {@link ScheduleStrength} of the season
+     * @param upToWeek the {@link footballer.structure.Week} maximum number (inclusive) to include in the dataset
+     */
+    public StrengthDataset(ScheduleStrength strength, int upToWeek) {
+        for (Team team : strength.getTeams()) {
+            entries.add(new StrengthEntry(team.name,
+                    round(strength.getSosSeries(team, upToWeek), 3),
+                    round(strength.getSovSeries(team, upToWeek), 3),
+                    round(strength.getWeightedSosSeries(team, upToWeek), 2),
+                    round(strength.getWeightedSovSeries(team, upToWeek), 2)));
+        }
+    }
+
+    private static List<Double> round(double[] values, int precision) {
+        List<Double> result = new ArrayList<>();
+        for (double value : values) result.add(Utils.roundDecimal(value, precision));
+        return result;
+    }
+
+    /**
+     * Gets the entries of this dataset.
+     * @return one entry per {@link Team}, in the order of {@link ScheduleStrength#getTeams()}, each with the team's weekly values
+     */
+    public List<StrengthEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Serializes the {@link StrengthDataset} to JSON using {@link Gson}, as the inner array of entries without any wrapping object.
+     * @return the JSON representation of this dataset
+     */
+    public String serialize() {
+        Gson gson = new Gson();
+        return gson.toJson(this.getEntries());
+    }
+}
@@ -93,6 +93,12 @@ class App extends React.Component {
 
         <h2>AdjustedWins</h2>
         <Ranking name={'adjustedwins'} year={this.state.year} week={this.state.week} divisionString={this.state.currentDivision} />
+
+        <h2>Massey</h2>
+        <Ranking name={'massey'} year={this.state.year} week={this.state.week} divisionString={this.state.currentDivision} />
+
+        <h2>Colley</h2>
+        <Ranking name={'colley'} year={this.state.year} week={this.state.week} divisionString={this.state.currentDivision} />
       </div>
     );
   }
@@ -0,0 +1,51 @@
+package footballer;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import footballer.parse.DirectorySource;
+import footballer.parse.ParsedGame;
+import footballer.structure.Season;
+
+/**
+ * Loads the synthetic scorestrips in {@code src/test/resources/scorestrips} for tests.
+ * They use the teams of the 2017 season, but the games and scores are made up rather than the real schedule and results.
+ */
+public class SyntheticSeasons {
+    public static final int YEAR = 2017;
+    public static final int WEEKS = 17;
+
+    /**
+     * Gets the directory of the synthetic scorestrips.
+     * @return the {@link Path} of the directory, which can be read with a {@link DirectorySource}
+     */
+    public static Path getDirectory() {
+        try {
+            return Paths.get(SyntheticSeasons.class.getResource("/scorestrips").toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Cannot find synthetic scorestrips!", e);
+        }
+    }
+
+    /**
+     * Builds the synthetic {@link Season} with the current structure, without going through {@link footballer.parse.Parser}.
+     * @param upToWeek the last week (inclusive) to fill in
+     * @return the synthetic {@link Season}, filled in up to {@code upToWeek}
+     */
+    public static Season load(int upToWeek) {
+        DirectorySource source = new DirectorySource(getDirectory());
+        Season season = Utils.createCurrentStructure(YEAR);
+        for (int weekNum = 1; weekNum <= upToWeek; weekNum++) {
+            season.addWeek(weekNum);
+            try {
+                for (ParsedGame game : source.getWeek(YEAR, "REG", weekNum)) {
+                    season.addGame(weekNum, game.awayTeamName, game.homeTeamName, game.awayTeamScore, game.homeTeamScore, game.isFinal());
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Cannot read synthetic week: " + weekNum + "!", e);
+            }
+        }
+        return season;
+    }
+}
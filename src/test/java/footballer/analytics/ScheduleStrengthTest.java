@@ -0,0 +1,76 @@
+package footballer.analytics;
+
+import static org.junit.Assert.assertEquals;
+
+import footballer.SyntheticSeasons;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Game;
+import footballer.structure.Record;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import org.junit.Test;
+
+public class ScheduleStrengthTest {
+
+    /**
+     * Compares every weekly value with the same value computed from the {@link Record}s of the season as it was at the end of that week.
+     */
+    @Test
+    public void weeklyValuesMatchRecordsOfThatWeek() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        RankingSystem rankingSystem = RankingSystems.create(season, "massey");
+        rankingSystem.applyGames(season);
+        ScheduleStrength strength = new ScheduleStrength(season, rankingSystem);
+        assertEquals(SyntheticSeasons.WEEKS, strength.getWeekNumbers().size());
+
+        for (int weekNum = 1; weekNum <= SyntheticSeasons.WEEKS; weekNum++) {
+            Season partial = SyntheticSeasons.load(weekNum);
+            double[] ranks = rankingSystem.getLog().getCheckpoint(weekNum);
+
+            for (Team team : partial.getTeams()) {
+                long sosPoints = 0, sosGames = 0, sovPoints = 0, sovGames = 0;
+                double sosRanks = 0, sovRanks = 0;
+                int opponents = 0, victories = 0;
+                for (Game game : partial.getGames()) {
+                    if (!game.isPlayed() || game.homeTeam != team && game.awayTeam != team) continue;
+                    Team opponent = game.homeTeam == team ? game.awayTeam : game.homeTeam;
+                    Record record = partial.getRecord(opponent.name);
+                    int points = 2 * record.getWins() + record.getTies();
+                    int games = record.getWins() + record.getLosses() + record.getTies();
+
+                    sosPoints += points;
+                    sosGames += games;
+                    sosRanks += ranks[opponent.getId()];
+                    opponents++;
+                    if (game.getWinner() == team) {
+                        sovPoints += points;
+                        sovGames += games;
+                        sovRanks += ranks[opponent.getId()];
+                        victories++;
+                    }
+                }
+
+                String message = team.name + " in week " + weekNum;
+                assertEquals(message, sosGames == 0 ? 0 : sosPoints / (2.0 * sosGames), strength.getSos(team, weekNum), 1e-12);
+                assertEquals(message, sovGames == 0 ? 0 : sovPoints / (2.0 * sovGames), strength.getSov(team, weekNum), 1e-12);
+                assertEquals(message, opponents == 0 ? 0 : sosRanks / opponents, strength.getWeightedSos(team, weekNum), 1e-9);
+                assertEquals(message, victories == 0 ? 0 : sovRanks / victories, strength.getWeightedSov(team, weekNum), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void seriesEndAtTheGivenWeek() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        ScheduleStrength strength = new ScheduleStrength(season);
+        Team team = season.getTeam("Eagles");
+
+        double[] series = strength.getSosSeries(team, 6);
+        assertEquals(6, series.length);
+        for (int weekNum = 1; weekNum <= 6; weekNum++) assertEquals(strength.getSos(team, weekNum), series[weekNum - 1], 0);
+        assertEquals(0, strength.getSovSeries(team, 0).length);
+        assertEquals(0, strength.getWeightedSovSeries(team, 6)[5], 0); // Nothing is weighted without a ranking system
+        assertEquals(0, strength.getSos(team, 0), 0);
+    }
+}
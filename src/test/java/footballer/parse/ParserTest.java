@@ -0,0 +1,71 @@
+package footballer.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParserTest {
+    private Path directory;
+    private GameSource previousSource;
+    private WeekCache previousCache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("footballer-parser");
+        previousSource = Parser.getSource();
+        previousCache = Parser.getCache();
+        Parser.setCache(null);
+        Parser.setSource(new DirectorySource(directory));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Parser.setSource(previousSource);
+        Parser.setCache(previousCache);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * A week whose last game is still being played already has every score, but is fetched again until the game is over.
+     */
+    @Test
+    public void weeksWithGamesInProgressAreRefreshed() throws IOException {
+        writeWeek(1, "[{\"hnn\":\"patriots\",\"vnn\":\"chiefs\",\"hs\":\"27\",\"vs\":\"42\",\"q\":\"F\"},"
+                + "{\"hnn\":\"bills\",\"vnn\":\"jets\",\"hs\":\"14\",\"vs\":\"10\",\"q\":\"3\"}]");
+        Season season = Parser.parseCurrentStructure(2017, 1);
+
+        Game inProgress = season.getWeek(1).getGames().get(1);
+        assertTrue(inProgress.isPlayed());
+        assertFalse(inProgress.isFinal());
+        assertFalse(season.getWeek(1).isFinal());
+        assertFalse(season.isFinal());
+
+        // Nothing changed yet
+        assertEquals(-1, Parser.refreshSeason(season, 1));
+
+        writeWeek(1, "[{\"hnn\":\"patriots\",\"vnn\":\"chiefs\",\"hs\":\"27\",\"vs\":\"42\",\"q\":\"F\"},"
+                + "{\"hnn\":\"bills\",\"vnn\":\"jets\",\"hs\":\"14\",\"vs\":\"10\",\"q\":\"F\"}]");
+        assertEquals(1, Parser.refreshSeason(season, 1));
+        assertTrue(season.getWeek(1).isFinal());
+        assertTrue(season.isFinal());
+    }
+
+    private void writeWeek(int weekNum, String json) throws IOException {
+        Path week = Files.createDirectories(directory.resolve("2017/REG"));
+        Files.write(week.resolve(weekNum + ".json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package footballer.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+
+public class ScorestripReaderTest {
+
+    @Test
+    public void onlyFinalStatusesAreFinal() throws XMLStreamException {
+        String xml = "<ss><gms w=\"17\" y=\"2017\" t=\"R\">"
+                + "<g eid=\"1\" q=\"F\" hnn=\"patriots\" hs=\"26\" vnn=\"jets\" vs=\"6\"/>"
+                + "<g eid=\"2\" q=\"FO\" hnn=\"bills\" hs=\"22\" vnn=\"dolphins\" vs=\"16\"/>"
+                + "<g eid=\"3\" q=\"4\" hnn=\"chiefs\" hs=\"27\" vnn=\"broncos\" vs=\"24\"/>"
+                + "<g eid=\"4\" q=\"H\" hnn=\"raiders\" hs=\"7\" vnn=\"chargers\" vs=\"10\"/>"
+                + "<g eid=\"5\" q=\"P\" hnn=\"bears\" hs=\"\" vnn=\"vikings\" vs=\"\"/>"
+                + "</gms></ss>";
+        List<ParsedGame> games = ScorestripReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(5, games.size());
+        assertTrue(games.get(0).isFinal());
+        assertTrue(games.get(1).isFinal());
+        assertFalse(games.get(2).isFinal());
+        assertEquals(27, games.get(2).homeTeamScore); // A game in progress already has scores
+        assertFalse(games.get(3).isFinal());
+        assertFalse(games.get(4).isFinal());
+        assertEquals(-1, games.get(4).homeTeamScore);
+        assertFalse(WeekCache.isComplete(games.subList(0, 3)));
+        assertTrue(WeekCache.isComplete(games.subList(0, 2)));
+    }
+}
@@ -0,0 +1,98 @@
+package footballer.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WeekCacheTest {
+    private Path directory;
+    private GameSource previousSource;
+    private WeekCache previousCache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("footballer-weeks");
+        previousSource = Parser.getSource();
+        previousCache = Parser.getCache();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Parser.setSource(previousSource);
+        Parser.setCache(previousCache);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void weeksAreKeptApartBySource() {
+        WeekCache cache = new WeekCache(directory, Long.MAX_VALUE);
+        List<ParsedGame> games = new ArrayList<>();
+        games.add(new ParsedGame("Chiefs", "Patriots", 42, 27, true));
+
+        cache.put("first", 2017, "REG", 1, games);
+
+        assertEquals(games.toString(), cache.get("first", 2017, "REG", 1).toString());
+        assertNull(cache.get("second", 2017, "REG", 1));
+        assertNull(cache.get("first", 2017, "REG", 2));
+    }
+
+    @Test
+    public void incompleteWeeksExpire() {
+        WeekCache cache = new WeekCache(directory, -1);
+        List<ParsedGame> played = new ArrayList<>();
+        played.add(new ParsedGame("Chiefs", "Patriots", 42, 27, true));
+        List<ParsedGame> unplayed = new ArrayList<>();
+        unplayed.add(new ParsedGame("Chiefs", "Patriots", -1, -1, false));
+        List<ParsedGame> inProgress = new ArrayList<>();
+        inProgress.add(new ParsedGame("Chiefs", "Patriots", 42, 27, true));
+        inProgress.add(new ParsedGame("Jets", "Bills", 10, 3, false)); // Has scores, but is still being played
+
+        cache.put("nfl", 2017, "REG", 1, played);
+        cache.put("nfl", 2017, "REG", 2, unplayed);
+        cache.put("nfl", 2017, "REG", 3, inProgress);
+
+        assertEquals(played.toString(), cache.get("nfl", 2017, "REG", 1).toString());
+        assertTrue(cache.get("nfl", 2017, "REG", 1).get(0).isFinal());
+        assertNull(cache.get("nfl", 2017, "REG", 2));
+        assertNull(cache.get("nfl", 2017, "REG", 3));
+    }
+
+    @Test
+    public void switchingSourcesDoesNotServeCachedWeeks() throws IOException, URISyntaxException {
+        Path synthetic = Paths.get(WeekCacheTest.class.getResource("/scorestrips").toURI());
+        Path other = Files.createDirectories(directory.resolve("other/2017/REG"));
+        Files.write(other.resolve("1.json"), "[{\"hnn\":\"patriots\",\"vnn\":\"chiefs\",\"hs\":\"27\",\"vs\":\"42\"}]".getBytes(StandardCharsets.UTF_8));
+
+        Parser.setCache(new WeekCache(directory.resolve("cache"), Long.MAX_VALUE));
+
+        Parser.setSource(new DirectorySource(synthetic));
+        List<ParsedGame> first = Parser.parseWeek(2017, 1);
+        assertEquals(new DirectorySource(synthetic).getWeek(2017, "REG", 1).toString(), first.toString());
+
+        Parser.setSource(new DirectorySource(directory.resolve("other")));
+        List<ParsedGame> second = Parser.parseWeek(2017, 1);
+        assertEquals(1, second.size());
+        assertEquals("Chiefs (42) @ Patriots (27)", second.get(0).toString());
+        assertFalse(second.get(0).isFinal()); // The game has no status
+
+        Parser.setSource(new DirectorySource(synthetic));
+        assertEquals(first.toString(), Parser.parseWeek(2017, 1).toString());
+    }
+}
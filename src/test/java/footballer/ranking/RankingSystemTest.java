@@ -0,0 +1,204 @@
+package footballer.ranking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import footballer.parse.DirectorySource;
+import footballer.parse.GameSource;
+import footballer.parse.ParsedGame;
+import footballer.parse.Parser;
+import footballer.parse.WeekCache;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Replays the synthetic season in {@code src/test/resources/scorestrips} through {@link RankingSystem#applyGames(Season, int)},
+ * {@link RankingSystem#rewind(int)} and the weekly checkpoints, and checks each of them against ranking systems applied from scratch.
+ */
+public class RankingSystemTest {
+    private static final int YEAR = 2017;
+    private static final int WEEKS = 17;
+    private static final double DELTA = 1e-9;
+
+    private Path synthetic;
+    private Path live;
+    private GameSource previousSource;
+    private WeekCache previousCache;
+
+    @Before
+    public void setUp() throws IOException, URISyntaxException {
+        synthetic = Paths.get(RankingSystemTest.class.getResource("/scorestrips").toURI());
+        live = Files.createTempDirectory("footballer-live");
+        previousSource = Parser.getSource();
+        previousCache = Parser.getCache();
+        Parser.setCache(null);
+        Parser.setSource(new DirectorySource(synthetic));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Parser.setSource(previousSource);
+        Parser.setCache(previousCache);
+        try (Stream<Path> paths = Files.walk(live)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void checkpointsMatchFromScratch() {
+        Season full = Parser.parseCurrentStructure(YEAR, WEEKS);
+
+        for (String name : RankingSystems.names) {
+            RankingSystem incremental = RankingSystems.create(full, name);
+            for (int weekNum = 1; weekNum <= WEEKS; weekNum++) {
+                incremental.applyGames(full, weekNum);
+                assertEquals(name, weekNum, incremental.getLastAppliedWeek());
+                assertRanks(name + " week " + weekNum, fromScratch(name, weekNum), incremental.getRanksAt(weekNum));
+            }
+
+            RankingSystem whole = RankingSystems.create(full, name);
+            whole.applyGames(full);
+            for (int weekNum = 1; weekNum <= WEEKS; weekNum++) {
+                assertRanks(name + " checkpoint " + weekNum, incremental.getRanksAt(weekNum), whole.getRanksAt(weekNum));
+            }
+        }
+    }
+
+    @Test
+    public void rewindMatchesFromScratch() {
+        Season full = Parser.parseCurrentStructure(YEAR, WEEKS);
+
+        for (String name : RankingSystems.names) {
+            RankingSystem rankingSystem = RankingSystems.create(full, name);
+            rankingSystem.applyGames(full);
+            List<Rank> end = rankingSystem.getRanksAt(WEEKS);
+
+            for (int weekNum : new int[] {12, 5, 0}) {
+                rankingSystem.rewind(weekNum);
+                assertEquals(name, weekNum, rankingSystem.getLastAppliedWeek());
+                assertRanks(name + " rewound to " + weekNum, fromScratch(name, weekNum), rankingSystem.ranks);
+            }
+
+            rankingSystem.applyGames(full);
+            assertRanks(name + " replayed", end, rankingSystem.ranks);
+        }
+    }
+
+    @Test
+    public void ranksByNameMatchRanksByTeam() {
+        Season season = Parser.parseCurrentStructure(YEAR, 1);
+        RankingSystem rankingSystem = RankingSystems.create(season, "evenplay");
+
+        for (Team team : season.getTeams()) {
+            assertSame(rankingSystem.getRank(team), rankingSystem.getRank(team.name));
+        }
+        assertNull(rankingSystem.getRank("Oilers"));
+    }
+
+    /**
+     * Applies a season while its latest week is still being played and the week after it has not been published yet,
+     * then applies it again (without rewinding) once both weeks have been written,
+     * which should be the same as applying the final weeks from scratch.
+     */
+    @Test
+    public void laterResultsForAppliedWeeksAreApplied() throws IOException {
+        int inProgress = 7;
+        int missing = inProgress + 1;
+        for (int weekNum = 1; weekNum < inProgress; weekNum++) copyWeek(weekNum);
+        writeUnplayedWeek(inProgress);
+        writeWeek(missing, "[]");
+
+        Parser.setSource(new DirectorySource(live));
+        Season season = Parser.parseCurrentStructure(YEAR, missing);
+        assertFalse(season.getWeek(inProgress).isFinal());
+        assertTrue(season.getWeek(missing).isEmpty());
+
+        List<RankingSystem> rankingSystems = new ArrayList<>();
+        for (String name : RankingSystems.names) {
+            RankingSystem rankingSystem = RankingSystems.create(season, name);
+            rankingSystem.applyGames(season);
+            rankingSystems.add(rankingSystem);
+        }
+
+        copyWeek(inProgress);
+        copyWeek(missing);
+        Parser.setSource(new DirectorySource(live));
+        assertEquals(inProgress, Parser.refreshSeason(season, missing));
+
+        for (int i = 0; i < rankingSystems.size(); i++) {
+            String name = RankingSystems.names[i];
+            RankingSystem rankingSystem = rankingSystems.get(i);
+            rankingSystem.applyGames(season);
+            assertEquals(name, missing, rankingSystem.getLastAppliedWeek());
+            assertRanks(name + " corrected", fromScratch(name, missing), rankingSystem.ranks);
+            for (int weekNum = 1; weekNum <= missing; weekNum++) {
+                assertRanks(name + " corrected checkpoint " + weekNum, fromScratch(name, weekNum), rankingSystem.getRanksAt(weekNum));
+            }
+        }
+    }
+
+    /**
+     * Creates a ranking system and applies the synthetic season to it from scratch, up to a given week.
+     */
+    private List<Rank> fromScratch(String name, int upToWeek) {
+        Parser.setSource(new DirectorySource(synthetic));
+        Season season = Parser.parseCurrentStructure(YEAR, upToWeek);
+        RankingSystem rankingSystem = RankingSystems.create(season, name);
+        rankingSystem.applyGames(season);
+        return rankingSystem.ranks;
+    }
+
+    private void copyWeek(int weekNum) throws IOException {
+        Path directory = Files.createDirectories(live.resolve(YEAR + "/REG"));
+        Files.copy(synthetic.resolve(YEAR + "/REG/" + weekNum + ".xml"), directory.resolve(weekNum + ".xml"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeWeek(int weekNum, String json) throws IOException {
+        Path directory = Files.createDirectories(live.resolve(YEAR + "/REG"));
+        Files.write(directory.resolve(weekNum + ".json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a synthetic week to the live directory as a JSON scorestrip in which the first half of the games have not been played yet.
+     */
+    private void writeUnplayedWeek(int weekNum) throws IOException {
+        List<ParsedGame> games = new DirectorySource(synthetic).getWeek(YEAR, "REG", weekNum);
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < games.size(); i++) {
+            ParsedGame game = games.get(i);
+            boolean played = i >= games.size() / 2;
+            if (i > 0) json.append(",");
+            json.append(String.format("{\"hnn\":\"%s\",\"vnn\":\"%s\",\"hs\":\"%s\",\"vs\":\"%s\"}",
+                    game.homeTeamName.toLowerCase(), game.awayTeamName.toLowerCase(),
+                    played ? game.homeTeamScore : "", played ? game.awayTeamScore : ""));
+        }
+        writeWeek(weekNum, json.append("]").toString());
+    }
+
+    private static void assertRanks(String message, List<Rank> expected, List<Rank> actual) {
+        assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Team team = expected.get(i).team;
+            assertEquals(message, team.name, actual.get(i).team.name);
+            assertEquals(message + " " + team.name, expected.get(i).getValue(), actual.get(i).getValue(), DELTA);
+        }
+    }
+}
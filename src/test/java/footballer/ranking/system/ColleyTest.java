@@ -0,0 +1,140 @@
+package footballer.ranking.system;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import footballer.SyntheticSeasons;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import org.junit.Test;
+
+public class ColleyTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * With one game, {@code C} is {@code [[3, -1], [-1, 3]]} and {@code b} is {@code [1.5, 0.5]}, so the ratings are {@code 5/8} and {@code 3/8}.
+     */
+    @Test
+    public void singleGameRatings() {
+        Season season = createSeason("A", "B", "C");
+        season.addWeek(1);
+        season.addGame(1, "B", "A", 14, 24);
+
+        Colley colley = new Colley(season.getTeams());
+        colley.applyGames(season);
+
+        assertEquals(0.625, colley.getRank("A").getValue(), DELTA);
+        assertEquals(0.375, colley.getRank("B").getValue(), DELTA);
+        assertEquals(0.5, colley.getRank("C").getValue(), DELTA);
+    }
+
+    /**
+     * Without any games, {@code C} is {@code 2} times the identity and {@code b} is {@code 1}, so every rating is {@code 1/2}.
+     */
+    @Test
+    public void ratingsStartAtOneHalf() {
+        Season season = createSeason("A", "B");
+        season.addWeek(1);
+        season.addGame(1, "B", "A", 14, 24);
+
+        Colley colley = new Colley(season.getTeams());
+        assertEquals(0.5, colley.getRank("A").getValue(), 0);
+        colley.applyGames(season);
+        colley.rewind(0);
+        assertEquals(0.5, colley.getRank("A").getValue(), 0);
+        assertEquals(0.5, colley.getRank("B").getValue(), 0);
+
+        Season fullSeason = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        RankingSystem created = RankingSystems.create(fullSeason, "colley");
+        for (Team team : fullSeason.getTeams()) assertEquals(team.name, 0.5, created.getRank(team).getValue(), 0);
+    }
+
+    @Test
+    public void choleskyUpdatesMatchDenseSolve() {
+        Season season = createSeason("A", "B", "C", "D", "E", "F");
+        season.addWeek(1);
+        season.addGame(1, "A", "B", 27, 13);
+        season.addGame(1, "C", "D", 10, 10);
+        season.addGame(1, "E", "F", 3, 31);
+        season.addWeek(2);
+        season.addGame(2, "B", "C", 24, 17);
+        season.addGame(2, "D", "E", 20, 23);
+        season.addGame(2, "F", "A", 16, 13);
+        season.addWeek(3);
+        season.addGame(3, "A", "D", 35, 7);
+        season.addGame(3, "B", "F", 9, 6);
+        season.addGame(3, "C", "E", -1, -1); // Not played, so not in the matrix
+        season.addWeek(4);
+        season.addGame(4, "A", "B", 21, 24);
+
+        Colley colley = new Colley(season.getTeams());
+        for (int weekNum = 1; weekNum <= 4; weekNum++) {
+            colley.applyGames(season, weekNum);
+            double[] expected = solveDense(season, weekNum);
+            for (Team team : season.getTeams()) {
+                assertEquals(team.name + " in week " + weekNum, expected[team.getId()], colley.getRank(team).getValue(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void rewindAndReplayGiveTheSameRatings() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        RankingSystem colley = RankingSystems.create(season, "colley");
+        colley.applyGames(season);
+        List<Team> teams = season.getTeams();
+        double[] expected = new double[teams.size()];
+        for (int i = 0; i < teams.size(); i++) expected[i] = colley.getRank(teams.get(i)).getValue();
+
+        for (int weekNum : new int[] {8, 0}) {
+            colley.rewind(weekNum);
+            assertEquals(weekNum, colley.getLastAppliedWeek());
+            colley.applyGames(season);
+            for (int i = 0; i < teams.size(); i++) {
+                assertEquals(teams.get(i).name + " after rewinding to week " + weekNum, expected[i], colley.getRank(teams.get(i)).getValue(), DELTA);
+            }
+        }
+    }
+
+    /**
+     * Builds the Colley system of every played game up to a given week and solves it directly.
+     */
+    private static double[] solveDense(Season season, int upToWeek) {
+        int n = season.getTeams().size();
+        double[][] matrix = new double[n][n];
+        double[] rightHandSide = new double[n];
+        for (int id = 0; id < n; id++) {
+            matrix[id][id] = 2;
+            rightHandSide[id] = 1;
+        }
+        for (int weekNum = 1; weekNum <= upToWeek; weekNum++) {
+            for (Game game : season.getWeek(weekNum).getGames()) {
+                if (!game.isPlayed()) continue;
+                int home = game.homeTeam.getId();
+                int away = game.awayTeam.getId();
+                matrix[home][home]++;
+                matrix[away][away]++;
+                matrix[home][away]--;
+                matrix[away][home]--;
+                if (game.getWinner() != null) {
+                    int winner = game.getWinner().getId();
+                    int loser = winner == home ? away : home;
+                    rightHandSide[winner] += 0.5;
+                    rightHandSide[loser] -= 0.5;
+                }
+            }
+        }
+        return DenseSolver.solve(matrix, rightHandSide);
+    }
+
+    private static Season createSeason(String... teamNames) {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        for (String teamName : teamNames) season.addTeam("AFC", "East", teamName);
+        return season;
+    }
+}
@@ -0,0 +1,47 @@
+package footballer.ranking.system;
+
+/**
+ * Solves small dense linear systems directly, to check the ratings of ranking systems which solve them iteratively or incrementally.
+ */
+class DenseSolver {
+
+    /**
+     * Solves {@code matrix * x = vector} with Gaussian elimination and partial pivoting.
+     * @param matrix the square matrix, which is not changed
+     * @param vector the right hand side, which is not changed
+     * @return the solution {@code x}
+     */
+    static double[] solve(double[][] matrix, double[] vector) {
+        int n = vector.length;
+        double[][] a = new double[n][];
+        for (int row = 0; row < n; row++) a[row] = matrix[row].clone();
+        double[] b = vector.clone();
+
+        for (int column = 0; column < n; column++) {
+            int pivot = column;
+            for (int row = column + 1; row < n; row++) {
+                if (Math.abs(a[row][column]) > Math.abs(a[pivot][column])) pivot = row;
+            }
+            double[] swapRow = a[column];
+            a[column] = a[pivot];
+            a[pivot] = swapRow;
+            double swap = b[column];
+            b[column] = b[pivot];
+            b[pivot] = swap;
+
+            for (int row = column + 1; row < n; row++) {
+                double factor = a[row][column] / a[column][column];
+                for (int k = column; k < n; k++) a[row][k] -= factor * a[column][k];
+                b[row] -= factor * b[column];
+            }
+        }
+
+        double[] x = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = b[row];
+            for (int k = row + 1; k < n; k++) sum -= a[row][k] * x[k];
+            x[row] = sum / a[row][row];
+        }
+        return x;
+    }
+}
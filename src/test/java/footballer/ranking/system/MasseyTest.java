@@ -0,0 +1,113 @@
+package footballer.ranking.system;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import footballer.SyntheticSeasons;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import org.junit.Test;
+
+public class MasseyTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * In a round robin the Massey matrix is {@code 3I - J}, so the ratings are a third of the point differentials.
+     */
+    @Test
+    public void roundRobinRatingsAreAThirdOfThePointDifferentials() {
+        Season season = createSeason("A", "B", "C");
+        season.addWeek(1);
+        season.addGame(1, "B", "A", 14, 24);
+        season.addGame(1, "C", "B", 17, 21);
+        season.addWeek(2);
+        season.addGame(2, "A", "C", 20, 12);
+
+        Massey massey = new Massey(season.getTeams());
+        massey.applyGames(season);
+
+        assertEquals(6, massey.getRank("A").getValue(), DELTA);
+        assertEquals(-2, massey.getRank("B").getValue(), DELTA);
+        assertEquals(-4, massey.getRank("C").getValue(), DELTA);
+    }
+
+    @Test
+    public void conjugateGradientMatchesDenseSolve() {
+        Season season = createSeason("A", "B", "C", "D", "E", "F");
+        season.addWeek(1);
+        season.addGame(1, "A", "B", 27, 13);
+        season.addGame(1, "C", "D", 10, 10);
+        season.addGame(1, "E", "F", 3, 31);
+        season.addWeek(2);
+        season.addGame(2, "B", "C", 24, 17);
+        season.addGame(2, "D", "E", 20, 23);
+        season.addGame(2, "F", "A", 16, 13);
+        season.addWeek(3);
+        season.addGame(3, "A", "D", 35, 7);
+        season.addGame(3, "B", "F", 9, 6);
+        season.addGame(3, "C", "E", -1, -1); // Not played, so not in the matrix
+        season.addWeek(4);
+        season.addGame(4, "A", "B", 21, 24);
+
+        Massey massey = new Massey(season.getTeams());
+        massey.applyGames(season);
+
+        double[] expected = solveDense(season);
+        for (Team team : season.getTeams()) assertEquals(team.name, expected[team.getId()], massey.getRank(team).getValue(), 1e-6);
+    }
+
+    @Test
+    public void rewindAndReplayGiveTheSameRatings() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        RankingSystem massey = RankingSystems.create(season, "massey");
+        massey.applyGames(season);
+        List<Team> teams = season.getTeams();
+        double[] expected = new double[teams.size()];
+        for (int i = 0; i < teams.size(); i++) expected[i] = massey.getRank(teams.get(i)).getValue();
+
+        for (int weekNum : new int[] {8, 0}) {
+            massey.rewind(weekNum);
+            assertEquals(weekNum, massey.getLastAppliedWeek());
+            massey.applyGames(season);
+            for (int i = 0; i < teams.size(); i++) {
+                assertEquals(teams.get(i).name + " after rewinding to week " + weekNum, expected[i], massey.getRank(teams.get(i)).getValue(), DELTA);
+            }
+        }
+    }
+
+    /**
+     * Solves the Massey system of every played game directly, bordered with the constraint that the ratings sum to {@code 0}.
+     */
+    private static double[] solveDense(Season season) {
+        int n = season.getTeams().size();
+        double[][] matrix = new double[n + 1][n + 1];
+        double[] pointDiffs = new double[n + 1];
+        for (Game game : season.getGames()) {
+            if (!game.isPlayed()) continue;
+            int home = game.homeTeam.getId();
+            int away = game.awayTeam.getId();
+            matrix[home][home]++;
+            matrix[away][away]++;
+            matrix[home][away]--;
+            matrix[away][home]--;
+            pointDiffs[home] += game.homeTeamScore - game.awayTeamScore;
+            pointDiffs[away] -= game.homeTeamScore - game.awayTeamScore;
+        }
+        for (int id = 0; id < n; id++) {
+            matrix[id][n] = 1;
+            matrix[n][id] = 1;
+        }
+        return DenseSolver.solve(matrix, pointDiffs);
+    }
+
+    private static Season createSeason(String... teamNames) {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        for (String teamName : teamNames) season.addTeam("AFC", "East", teamName);
+        return season;
+    }
+}
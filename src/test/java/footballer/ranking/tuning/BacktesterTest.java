@@ -0,0 +1,77 @@
+package footballer.ranking.tuning;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import footballer.SyntheticSeasons;
+import footballer.ranking.Rank;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import footballer.structure.Week;
+import org.junit.Test;
+
+public class BacktesterTest {
+
+    /**
+     * Each game should be predicted from the ranks at the end of the week before it, which are the checkpoints of a ranking system applied to the whole season.
+     */
+    @Test
+    public void predictionsUseTheRanksBeforeEachWeek() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+
+        for (String name : new String[] {"evenplay", "adjustedwins"}) {
+            RankingSystem rankingSystem = RankingSystems.create(season, name);
+            rankingSystem.applyGames(season);
+
+            int games = 0;
+            int predictions = 0;
+            int correct = 0;
+            for (Week week : season.getWeeks()) {
+                double[] values = new double[season.getTeams().size()];
+                for (Rank rank : rankingSystem.getRanksAt(week.number - 1)) values[rank.team.getId()] = rank.getValue();
+
+                for (Game game : week.getGames()) {
+                    Team winner = game.getWinner();
+                    if (winner == null) continue;
+                    games++;
+
+                    double home = values[game.homeTeam.getId()];
+                    double away = values[game.awayTeam.getId()];
+                    if (home == away) continue;
+                    predictions++;
+                    if ((home > away) == (winner == game.homeTeam)) correct++;
+                }
+            }
+
+            BacktestResult result = Backtester.backtest(season, name);
+            assertEquals(name, 1, result.getSeasons());
+            assertEquals(name, games, result.getGames());
+            assertEquals(name, predictions, result.getPredictions());
+            assertEquals(name, (double) correct / predictions, result.getHitRate(), 1e-12);
+        }
+    }
+
+    @Test
+    public void resultsAreMergedByRankingSystem() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        List<Season> seasons = new ArrayList<>(Arrays.asList(season, season));
+
+        Map<String, BacktestResult> results = Backtester.backtest(seasons, RankingSystems.names);
+
+        assertEquals(Arrays.asList(RankingSystems.names), new ArrayList<>(results.keySet()));
+        for (String name : RankingSystems.names) {
+            BacktestResult single = Backtester.backtest(season, name);
+            BacktestResult merged = results.get(name);
+            assertEquals(name, 2, merged.getSeasons());
+            assertEquals(name, 2 * single.getGames(), merged.getGames());
+            assertEquals(name, 2 * single.getPredictions(), merged.getPredictions());
+            assertEquals(name, single.getHitRate(), merged.getHitRate(), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package footballer.ranking.tuning;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import footballer.SyntheticSeasons;
+import footballer.Utils;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.system.EvenPlay;
+import footballer.structure.Season;
+import org.junit.Test;
+
+public class ParameterSweepTest {
+
+    @Test
+    public void gridEnumeratesEveryCombination() {
+        ParameterGrid grid = new ParameterGrid()
+                .addRange("dampener", 0.1, 0.3, 0.1)
+                .add("max", 16, 32);
+
+        assertEquals(6, grid.size());
+        assertArrayEquals(new double[] {0.1, 16}, grid.get(0), 0);
+        assertArrayEquals(new double[] {0.1, 32}, grid.get(1), 0);
+        assertArrayEquals(new double[] {0.3, 32}, grid.get(5), 0);
+        assertEquals("{dampener=0.2, max=16.0}", grid.toMap(grid.get(2)).toString());
+    }
+
+    @Test
+    public void sweepMatchesRunningEachCombination() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        ParameterGrid grid = new ParameterGrid()
+                .addRange("dampener", 0.25, 2.0, 0.25)
+                .addRange("increment", 0, 1, 0.5)
+                .add("max", 16, 32);
+        Function<double[], RankingSystem> factory = parameters -> {
+            RankingSystem rankingSystem = new EvenPlay(season.getTeams(), parameters[0]);
+            rankingSystem.generateBaselineRanks(Utils.espnPreseasonRankings2017, parameters[1], parameters[2]);
+            return rankingSystem;
+        };
+
+        List<SweepResult> results = new ParameterSweep(new ForkJoinPool(4)).run(season, grid, factory, SweepMetrics::predictionAccuracy);
+
+        assertEquals(grid.size(), results.size());
+        for (int i = 1; i < results.size(); i++) assertTrue(results.get(i - 1).score >= results.get(i).score);
+
+        for (SweepResult result : results) {
+            Map<String, Double> parameters = result.parameters;
+            RankingSystem rankingSystem = factory.apply(new double[] {parameters.get("dampener"), parameters.get("increment"), parameters.get("max")});
+            rankingSystem.applyGames(season);
+            assertEquals(parameters.toString(), SweepMetrics.predictionAccuracy(rankingSystem), result.score, 0);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package footballer.ranking.tuning;
+
+import static org.junit.Assert.assertEquals;
+
+import footballer.ranking.RankingSystem;
+import footballer.ranking.system.Massey;
+import footballer.structure.Season;
+import org.junit.Test;
+
+public class SweepMetricsTest {
+
+    @Test
+    public void gamesBetweenEqualRanksAreNotPredictions() {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        season.addTeam("AFC", "East", "Jets");
+        season.addTeam("AFC", "East", "Patriots");
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 10, 24); // Every rank is still 0, so the away team is only the favorite by default
+        season.addWeek(2);
+        season.addGame(2, "Patriots", "Jets", 31, 7); // The Patriots are now the favorite, and win
+
+        RankingSystem rankingSystem = new Massey(season.getTeams());
+        rankingSystem.applyGames(season);
+
+        assertEquals(1, SweepMetrics.predictionAccuracy(rankingSystem), 0);
+    }
+}
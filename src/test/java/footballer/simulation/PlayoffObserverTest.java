@@ -0,0 +1,199 @@
+package footballer.simulation;
+
+import static org.junit.Assert.assertEquals;
+
+import footballer.ranking.RankingSystem;
+import footballer.ranking.system.Colley;
+import footballer.structure.Season;
+import org.junit.Test;
+
+/**
+ * Every season here is fully played, so the seeding only depends on the tiebreakers (and on coin tosses where every step ties).
+ */
+public class PlayoffObserverTest {
+    private static final int ITERATIONS = 200;
+
+    @Test
+    public void divisionTieStartsWithHeadToHead() {
+        Season season = createSeason(2017, new String[][][] {{{"A", "B", "C"}}, {{"D"}}});
+        win(season, "A", "B");
+        win(season, "B", "C");
+        win(season, "B", "C");
+        win(season, "C", "A");
+        win(season, "A", "D");
+
+        // A and B are both 2-1, B has the better division record but A won the game between them
+        PlayoffObserver observer = simulate(season);
+        assertEquals(1, observer.getDivisionWinProbability(season.getTeam("A")), 0);
+        assertEquals(0, observer.getDivisionWinProbability(season.getTeam("B")), 0);
+    }
+
+    @Test
+    public void reducedTieGroupRestartsAtHeadToHead() {
+        Season season = createSeason(2017, new String[][][] {{{"A", "B", "C", "X"}}, {{"D", "E"}}});
+        win(season, "A", "B");
+        win(season, "X", "A");
+        win(season, "B", "X");
+        win(season, "X", "C");
+        win(season, "C", "D");
+        win(season, "D", "X");
+        win(season, "E", "X");
+
+        // A, B and C are 1-1 and C has not played the other two, so the division record drops C.
+        // The next step would be common opponents, where B beat X and A lost to X, but A beat B head-to-head.
+        PlayoffObserver observer = simulate(season);
+        assertEquals(1, observer.getDivisionWinProbability(season.getTeam("A")), 0);
+        assertEquals(0, observer.getDivisionWinProbability(season.getTeam("B")), 0);
+        assertEquals(0, observer.getDivisionWinProbability(season.getTeam("C")), 0);
+    }
+
+    @Test
+    public void threeTeamHeadToHeadNeedsASweep() {
+        // The division winners A, B and C are seeded with the wild card tiebreakers
+        Season season = createSeason(2017, new String[][][] {{{"A", "A2"}, {"B"}, {"C"}}, {{"P", "Q"}}});
+        win(season, "A", "B");
+        win(season, "A", "C");
+        win(season, "A2", "A");
+        win(season, "P", "A");
+        for (String team : new String[] {"B", "C"}) {
+            for (int i = 0; i < 3; i++) win(season, team, "A2");
+            win(season, "P", team);
+            win(season, "Q", team);
+        }
+
+        // All three are .500 and B and C have the better conference record, but A swept them
+        PlayoffObserver observer = simulate(season);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("A"))[0], 0);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("B"))[1] + observer.getSeedDistribution(season.getTeam("C"))[1], 0);
+
+        // Without the game against C, A did not sweep, so the conference record comes next
+        season = createSeason(2017, new String[][][] {{{"A", "A2"}, {"B"}, {"C"}}, {{"P", "Q"}}});
+        win(season, "A", "B");
+        win(season, "A", "P");
+        win(season, "A2", "A");
+        win(season, "P", "A");
+        for (String team : new String[] {"B", "C"}) {
+            for (int i = 0; i < 3; i++) win(season, team, "A2");
+            win(season, "P", team);
+            win(season, "Q", team);
+        }
+        win(season, "P", "C");
+
+        // C has the best conference record, then A beat B in the only game between the two which are left
+        observer = simulate(season);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("C"))[0], 0);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("A"))[1], 0);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("B"))[2], 0);
+    }
+
+    @Test
+    public void threeTeamHeadToHeadDropsTheTeamWhichLostToAll() {
+        Season season = createSeason(2017, new String[][][] {{{"A"}, {"B"}, {"C", "C2"}}, {{"P", "Q"}}});
+        win(season, "A", "C");
+        win(season, "B", "C");
+        for (int i = 0; i < 3; i++) win(season, "C", "C2");
+        win(season, "C2", "A");
+        win(season, "C2", "B");
+        win(season, "A", "Q");
+        win(season, "A", "Q");
+        win(season, "P", "A");
+        win(season, "B", "P");
+        win(season, "B", "P");
+        win(season, "Q", "B");
+        win(season, "P", "Q");
+        win(season, "P", "Q");
+
+        // All three are 3-2 and C has the best conference record, but lost to both A and B.
+        // A and B have not played each other and tie on conference record and common games,
+        // so the strength of victory decides: B beat P (3-2) twice and A beat Q (1-4) twice.
+        PlayoffObserver observer = simulate(season);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("B"))[0], 0);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("A"))[1], 0);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("C"))[2], 0);
+    }
+
+    @Test
+    public void commonGamesNeedTheMinimum() {
+        // X beat every common opponent but Y has the better strength of victory
+        Season season = createCommonGamesSeason();
+        PlayoffObserver observer = simulate(season);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("Y"))[0], 0);
+
+        // One more common game each makes common games count
+        season = createCommonGamesSeason();
+        win(season, "X", "P");
+        win(season, "U", "X");
+        win(season, "Y", "T");
+        win(season, "P", "Y");
+        observer = simulate(season);
+        assertEquals(1, observer.getSeedDistribution(season.getTeam("X"))[0], 0);
+    }
+
+    @Test
+    public void wildCardCountDependsOnTheYear() {
+        for (int year : new int[] {2019, 2020}) {
+            Season season = createSeason(year, new String[][][] {{{"A", "B", "C", "D", "E"}}});
+            String[] names = {"A", "B", "C", "D", "E"};
+            for (int i = 0; i < names.length; i++) {
+                for (int j = i + 1; j < names.length; j++) win(season, names[i], names[j]);
+            }
+
+            PlayoffObserver observer = simulate(season);
+            int wildCards = year >= 2020 ? 3 : 2;
+            assertEquals(1 + wildCards, observer.getSeedDistribution(season.getTeam("A")).length);
+            assertEquals(1, observer.getByeProbability(season.getTeam("A")), 0);
+            assertEquals(wildCards == 2 ? 1 : 0, observer.getByeProbability(season.getTeam("B")), 0);
+            assertEquals(1, observer.getPlayoffProbability(season.getTeam("C")), 0);
+            assertEquals(wildCards == 3 ? 1 : 0, observer.getPlayoffProbability(season.getTeam("D")), 0);
+            assertEquals(0, observer.getPlayoffProbability(season.getTeam("E")), 0);
+        }
+    }
+
+    /**
+     * Creates a season where the division winners X and Y have not played each other or any other team of their conference,
+     * and each played three games against the same opponents.
+     */
+    private static Season createCommonGamesSeason() {
+        Season season = createSeason(2017, new String[][][] {{{"X"}, {"Y"}}, {{"P", "Q", "R", "S", "T", "U"}}});
+        win(season, "X", "P");
+        win(season, "X", "Q");
+        win(season, "X", "R");
+        for (int i = 0; i < 3; i++) win(season, "U", "X");
+        win(season, "Y", "P");
+        win(season, "Q", "Y");
+        win(season, "R", "Y");
+        win(season, "Y", "T");
+        win(season, "Y", "T");
+        win(season, "T", "Y");
+        for (int i = 0; i < 5; i++) win(season, "T", "S");
+        return season;
+    }
+
+    /**
+     * Creates a season with the given conferences of divisions of teams, where every game is played in week 1.
+     */
+    private static Season createSeason(int year, String[][][] conferences) {
+        Season season = new Season(year);
+        for (int c = 0; c < conferences.length; c++) {
+            String conference = "Conference" + c;
+            season.addConference(conference);
+            for (int d = 0; d < conferences[c].length; d++) {
+                String division = "Division" + d;
+                season.addDivision(conference, division);
+                for (String team : conferences[c][d]) season.addTeam(conference, division, team);
+            }
+        }
+        season.addWeek(1);
+        return season;
+    }
+
+    private static void win(Season season, String winner, String loser) {
+        season.addGame(1, loser, winner, 10, 20);
+    }
+
+    private static PlayoffObserver simulate(Season season) {
+        RankingSystem rankingSystem = new Colley(season.getTeams());
+        rankingSystem.applyGames(season);
+        return new SeasonSimulator(season, rankingSystem).simulatePlayoffs(ITERATIONS, 1);
+    }
+}
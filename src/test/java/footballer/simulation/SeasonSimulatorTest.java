@@ -0,0 +1,96 @@
+package footballer.simulation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import footballer.SyntheticSeasons;
+import footballer.ranking.RankingSystem;
+import footballer.ranking.RankingSystems;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import org.junit.Test;
+
+public class SeasonSimulatorTest {
+    private static final int ITERATIONS = 20000;
+
+    @Test
+    public void playedSeasonIsCertain() {
+        Season season = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        StandingsObserver observer = new SeasonSimulator(season, applied(season, "colley")).simulate(1000, 1);
+
+        assertEquals(1000, observer.getIterations());
+        double divisionWins = 0;
+        for (Team team : season.getTeams()) {
+            int wins = season.getStandings().getWins(team);
+            assertEquals(team.name, wins, observer.getExpectedWins(team), 0);
+            assertEquals(team.name, 1, observer.getWinDistribution(team)[wins], 0);
+            divisionWins += observer.getDivisionWinProbability(team);
+        }
+        assertEquals(season.getDivisionNames().size(), divisionWins, 1e-9);
+    }
+
+    @Test
+    public void sameSeedGivesSameProjections() {
+        Season season = unplayedFrom(12);
+        SeasonSimulator simulator = new SeasonSimulator(season, applied(season, "massey"));
+        StandingsObserver first = simulator.simulate(ITERATIONS, 7);
+        StandingsObserver second = simulator.simulate(ITERATIONS, 7);
+
+        for (Team team : season.getTeams()) {
+            assertArrayEquals(team.name, first.getWinDistribution(team), second.getWinDistribution(team), 0);
+            assertArrayEquals(team.name, first.getDivisionPlaceDistribution(team), second.getDivisionPlaceDistribution(team), 0);
+        }
+    }
+
+    @Test
+    public void everyRemainingGameHasOneWinner() {
+        Season season = unplayedFrom(12);
+        StandingsObserver observer = new SeasonSimulator(season, applied(season, "massey")).simulate(ITERATIONS, 3);
+
+        int remaining = 0;
+        for (Game game : season.getGames()) {
+            if (!game.isPlayed()) remaining++;
+        }
+        double playedWins = 0;
+        double expectedWins = 0;
+        for (Team team : season.getTeams()) {
+            playedWins += season.getStandings().getWins(team);
+            expectedWins += observer.getExpectedWins(team);
+        }
+        assertEquals(playedWins + remaining, expectedWins, 1e-6);
+    }
+
+    @Test
+    public void zeroSteepnessFlipsCoins() {
+        Season season = unplayedFrom(12);
+        StandingsObserver observer = new SeasonSimulator(season, applied(season, "massey"), 0).simulate(ITERATIONS, 5);
+
+        for (Team team : season.getTeams()) {
+            int remaining = 0;
+            for (Game game : season.getGames()) {
+                if (!game.isPlayed() && (game.homeTeam == team || game.awayTeam == team)) remaining++;
+            }
+            assertEquals(team.name, season.getStandings().getWins(team) + remaining / 2.0, observer.getExpectedWins(team), 0.05);
+        }
+    }
+
+    /**
+     * Loads the synthetic season, with every game from a given week on not played yet.
+     */
+    private static Season unplayedFrom(int firstUnplayedWeek) {
+        Season full = SyntheticSeasons.load(SyntheticSeasons.WEEKS);
+        Season season = SyntheticSeasons.load(firstUnplayedWeek - 1);
+        for (int weekNum = firstUnplayedWeek; weekNum <= SyntheticSeasons.WEEKS; weekNum++) {
+            season.addWeek(weekNum);
+            for (Game game : full.getWeek(weekNum).getGames()) season.addGame(weekNum, game.awayTeam.name, game.homeTeam.name, -1, -1);
+        }
+        return season;
+    }
+
+    private static RankingSystem applied(Season season, String rankingSystemName) {
+        RankingSystem rankingSystem = RankingSystems.create(season, rankingSystemName);
+        rankingSystem.applyGames(season);
+        return rankingSystem;
+    }
+}
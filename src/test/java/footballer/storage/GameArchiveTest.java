@@ -0,0 +1,131 @@
+package footballer.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import footballer.Utils;
+import footballer.structure.Game;
+import footballer.structure.League;
+import footballer.structure.Season;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameArchiveTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("footballer-archive", ".fbga");
+        Files.delete(file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void leagueLoadsArchivedSeasonsLazily() throws IOException {
+        try (GameArchive archive = GameArchive.open(file)) {
+            archive.append(createSeason(2016, 3));
+            archive.append(createSeason(2017, 0));
+            archive.append(createSeason(2017, 7)); // Replaces the earlier 2017 block
+        }
+
+        try (GameArchive archive = GameArchive.open(file)) {
+            assertTrue(archive.contains(2016));
+            assertTrue(archive.contains(2017));
+            assertFalse(archive.contains(2018));
+
+            League league = new League("NFL", archive);
+            Season season = league.getSeason(2017);
+            assertSame(season, league.getSeason(2017));
+            assertNull(league.getSeason(2018));
+            assertNull(league.addSeason(2016));
+
+            List<Game> games = season.getWeek(2).getGames();
+            assertEquals(2, games.size());
+            assertEquals("Jets", games.get(0).awayTeam.name);
+            assertEquals("Patriots", games.get(0).homeTeam.name);
+            assertEquals(7, games.get(0).awayTeamScore);
+            assertEquals(14, games.get(0).homeTeamScore);
+            assertEquals(-1, games.get(1).awayTeamScore);
+            assertFalse(season.getWeek(3).getGames().get(0).isFinal());
+            assertTrue(season.getWeek(1).getGames().get(0).isFinal());
+            assertFalse(season.isFinal());
+        }
+    }
+
+    @Test
+    public void partiallyWrittenBlocksAreCutOff() throws IOException {
+        try (GameArchive archive = GameArchive.open(file)) {
+            archive.append(createSeason(2017, 0));
+        }
+        long complete = Files.size(file);
+
+        // A 2018 block header which claims 256 games, followed by only 2 of them
+        ByteBuffer torn = ByteBuffer.allocate(12 + 2 * 8);
+        torn.putInt(2018).putInt(17).putInt(256);
+        torn.position(torn.capacity()).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(torn);
+        }
+
+        try (GameArchive archive = GameArchive.open(file)) {
+            assertEquals(complete, Files.size(file));
+            archive.append(createSeason(2016, 1));
+        }
+
+        try (GameArchive archive = GameArchive.open(file)) {
+            assertEquals(new TreeSet<>(Arrays.asList(2016, 2017)), archive.getYears());
+            assertEquals(11, archive.readSeason(2016).getWeek(1).getGames().get(0).awayTeamScore);
+            assertEquals(10, archive.readSeason(2017).getWeek(1).getGames().get(0).awayTeamScore);
+        }
+    }
+
+    @Test
+    public void negativeGameCountsAreRejected() throws IOException {
+        try (GameArchive archive = GameArchive.open(file)) {
+            archive.append(createSeason(2017, 0));
+        }
+
+        ByteBuffer corrupt = ByteBuffer.allocate(12);
+        corrupt.putInt(2018).putInt(17).putInt(-2).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(corrupt);
+        }
+
+        try {
+            GameArchive.open(file).close();
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    private static Season createSeason(int year, int offset) {
+        Season season = Utils.createCurrentStructure(year);
+        season.addWeek(1);
+        season.addGame(1, "Bills", "Dolphins", 10 + offset, 20);
+        season.addWeek(2);
+        season.addGame(2, "Jets", "Patriots", offset, 14);
+        season.addGame(2, "Bears", "Packers", -1, -1);
+        season.addWeek(3);
+        season.addGame(3, "Chiefs", "Raiders", 14, 3, false); // Still in progress
+        return season;
+    }
+}
@@ -0,0 +1,137 @@
+package footballer.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import footballer.parse.DirectorySource;
+import footballer.parse.GameSource;
+import footballer.parse.Parser;
+import footballer.parse.WeekCache;
+import footballer.structure.Game;
+import footballer.structure.Season;
+import footballer.structure.Team;
+import footballer.structure.Week;
+import org.junit.Test;
+
+public class SeasonSnapshotTest {
+
+    @Test
+    public void syntheticSeasonRoundTrips() throws IOException, URISyntaxException {
+        Path synthetic = Paths.get(SeasonSnapshotTest.class.getResource("/scorestrips").toURI());
+        GameSource previousSource = Parser.getSource();
+        WeekCache previousCache = Parser.getCache();
+        Parser.setCache(null);
+        Parser.setSource(new DirectorySource(synthetic));
+        Season season;
+        try {
+            season = Parser.parseCurrentStructure(2017, 17);
+        } finally {
+            Parser.setSource(previousSource);
+            Parser.setCache(previousCache);
+        }
+        season.clearWeek(17);
+        season.addGame(17, "Jets", "Patriots", -1, -1);
+        season.addGame(17, "Bills", "Dolphins", 10, 7, false); // Still in progress
+
+        assertSameSeason(season, SeasonSnapshot.read(ByteBuffer.wrap(SeasonSnapshot.toBytes(season))));
+    }
+
+    @Test
+    public void teamIdsAboveSignedByteRoundTrip() throws IOException {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        for (int i = 0; i < 200; i++) season.addTeam("AFC", "East", "Team" + i);
+        season.addWeek(1);
+        season.addGame(1, "Team150", "Team199", 10, 3);
+
+        assertSameSeason(season, SeasonSnapshot.read(ByteBuffer.wrap(SeasonSnapshot.toBytes(season))));
+    }
+
+    @Test
+    public void tooManyTeamsAreRejected() {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        for (int i = 0; i < 256; i++) season.addTeam("AFC", "East", "Team" + i);
+
+        try {
+            SeasonSnapshot.toBytes(season);
+            fail("Expected a RuntimeException");
+        } catch (RuntimeException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void corruptSnapshotsThrowIOException() {
+        Season season = new Season(2017);
+        season.addConference("AFC");
+        season.addDivision("AFC", "East");
+        season.addTeam("AFC", "East", "Patriots");
+        season.addTeam("AFC", "East", "Jets");
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 7, 21);
+        byte[] bytes = SeasonSnapshot.toBytes(season);
+
+        // The conference name length comes right after the magic number, version, year and conference count
+        byte[] negativeLength = bytes.clone();
+        negativeLength[8] = (byte) 0x80;
+        assertCorrupt(negativeLength);
+
+        byte[] longName = bytes.clone();
+        longName[8] = (byte) 0x7F;
+        assertCorrupt(longName);
+
+        byte[] badTeamId = bytes.clone();
+        badTeamId[bytes.length - 6] = (byte) 0xFF;
+        assertCorrupt(badTeamId);
+
+        assertCorrupt(Arrays.copyOf(bytes, bytes.length - 1));
+        assertCorrupt(new byte[] {1, 2, 3, 4, 5});
+    }
+
+    private static void assertCorrupt(byte[] bytes) {
+        try {
+            SeasonSnapshot.read(ByteBuffer.wrap(bytes));
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    private static void assertSameSeason(Season expected, Season actual) {
+        assertEquals(expected.year, actual.year);
+        assertEquals(expected.getDivisionNames(), actual.getDivisionNames());
+
+        List<Team> expectedTeams = expected.getTeams();
+        List<Team> actualTeams = actual.getTeams();
+        assertEquals(expectedTeams.size(), actualTeams.size());
+        for (int i = 0; i < expectedTeams.size(); i++) {
+            assertEquals(expectedTeams.get(i).name, actualTeams.get(i).name);
+            assertEquals(expectedTeams.get(i).getId(), actualTeams.get(i).getId());
+        }
+
+        List<Week> expectedWeeks = expected.getWeeks();
+        List<Week> actualWeeks = actual.getWeeks();
+        assertEquals(expectedWeeks.size(), actualWeeks.size());
+        for (int w = 0; w < expectedWeeks.size(); w++) {
+            List<Game> expectedGames = expectedWeeks.get(w).getGames();
+            List<Game> actualGames = actualWeeks.get(w).getGames();
+            assertEquals(expectedWeeks.get(w).number, actualWeeks.get(w).number);
+            assertEquals(expectedGames.size(), actualGames.size());
+            for (int g = 0; g < expectedGames.size(); g++) {
+                assertEquals(expectedGames.get(g).toString(), actualGames.get(g).toString());
+                assertEquals(expectedGames.get(g).toString(), expectedGames.get(g).isFinal(), actualGames.get(g).isFinal());
+            }
+        }
+        assertEquals(expected.isFinal(), actual.isFinal());
+    }
+}
@@ -0,0 +1,68 @@
+package footballer.structure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import footballer.Utils;
+import org.junit.Test;
+
+public class MatchupsTest {
+
+    @Test
+    public void resultsAreCountedPerPair() {
+        Season season = Utils.createCurrentStructure(2017);
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 10, 31);
+        season.addGame(1, "Bills", "Dolphins", 20, 20);
+        season.addWeek(2);
+        season.addGame(2, "Patriots", "Jets", 17, 24);
+        season.addGame(2, "Dolphins", "Patriots", -1, -1);
+        season.addWeek(3);
+        season.addGame(3, "Bills", "Jets", 13, 10);
+
+        Matchups matchups = season.getMatchups();
+        Team patriots = season.getTeam("Patriots");
+        Team jets = season.getTeam("Jets");
+        Team dolphins = season.getTeam("Dolphins");
+        Team bills = season.getTeam("Bills");
+
+        assertEquals(2, matchups.getMeetings(patriots, jets));
+        assertEquals(1, matchups.getWins(patriots, jets));
+        assertEquals(1, matchups.getLosses(patriots, jets));
+        assertEquals(1, matchups.getMeetings(patriots, dolphins)); // Scheduled, but not played
+        assertEquals(0, matchups.getWins(patriots, dolphins) + matchups.getLosses(patriots, dolphins) + matchups.getTies(patriots, dolphins));
+        assertEquals(1, matchups.getTies(bills, dolphins));
+        assertEquals(1, matchups.getTies(dolphins, bills));
+        assertEquals(0, matchups.getMeetings(patriots, bills));
+
+        List<Team> opponents = matchups.getOpponents(patriots);
+        assertEquals(2, opponents.size());
+        assertTrue(opponents.contains(jets) && opponents.contains(dolphins));
+        assertEquals(opponents, matchups.getCommonOpponents(patriots, bills));
+        assertTrue(matchups.getCommonOpponents(jets, bills).isEmpty()); // They play each other, but have no other opponent in common
+        assertEquals(3, matchups.getGameCount(jets));
+        assertEquals("BILLS (13) @ Jets (10)", matchups.getGames(jets).get(2).toString());
+        assertEquals(0, matchups.getGameCount(season.getTeam("Chiefs")));
+    }
+
+    @Test
+    public void clearedWeeksAreRemoved() {
+        Season season = Utils.createCurrentStructure(2017);
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 10, 31);
+        season.addWeek(2);
+        season.addGame(2, "Patriots", "Jets", 17, 24);
+
+        season.clearWeek(2);
+        season.addGame(2, "Patriots", "Jets", 27, 24);
+
+        Matchups matchups = season.getMatchups();
+        Team patriots = season.getTeam("Patriots");
+        Team jets = season.getTeam("Jets");
+        assertEquals(2, matchups.getMeetings(patriots, jets));
+        assertEquals(2, matchups.getWins(patriots, jets));
+        assertEquals(0, matchups.getWins(jets, patriots));
+        assertEquals(2, matchups.getGameCount(jets));
+    }
+}
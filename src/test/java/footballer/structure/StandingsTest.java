@@ -0,0 +1,78 @@
+package footballer.structure;
+
+import static org.junit.Assert.assertEquals;
+
+import footballer.Utils;
+import org.junit.Test;
+
+public class StandingsTest {
+
+    /**
+     * Records used to be counted by scanning every game of the season, where any game which was not a win or a loss for the team
+     * (including games it did not play in, and games which have not been played yet) counted as a tie.
+     * Now only played games which the team was in count, so ties are only real ties.
+     */
+    @Test
+    public void onlyPlayedGamesOfTheTeamCount() {
+        Season season = Utils.createCurrentStructure(2017);
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 10, 31); // Patriots home win
+        season.addGame(1, "Bills", "Dolphins", 20, 20); // Tie, without the Patriots
+        season.addGame(1, "Bears", "Packers", 3, 17); // Without the Patriots
+        season.addWeek(2);
+        season.addGame(2, "Patriots", "Bills", 24, 27); // Patriots away loss
+        season.addGame(2, "Dolphins", "Jets", -1, -1); // Not played yet
+        season.addWeek(3);
+        season.addGame(3, "Patriots", "Dolphins", -1, -1); // Patriots game not played yet
+
+        assertRecord(season.getRecord("Patriots"), 1, 0, 0, 1, 0);
+        assertRecord(season.getRecord("Bills"), 1, 0, 0, 0, 1);
+        assertRecord(season.getRecord("Dolphins"), 0, 0, 0, 0, 1);
+        assertRecord(season.getRecord("Jets"), 0, 0, 0, 1, 0);
+        assertRecord(season.getRecord("Packers"), 1, 0, 0, 0, 0);
+        assertRecord(season.getRecord("Chiefs"), 0, 0, 0, 0, 0);
+
+        // The old count gave the Patriots 4 ties: the two games they were not in, and both unplayed games (even their own)
+        assertEquals(4, countTiesByScanning(season, season.getTeam("Patriots")));
+        assertEquals(6, countTiesByScanning(season, season.getTeam("Chiefs")));
+    }
+
+    @Test
+    public void clearedWeeksAreRemoved() {
+        Season season = Utils.createCurrentStructure(2017);
+        season.addWeek(1);
+        season.addGame(1, "Jets", "Patriots", 10, 31);
+        season.addGame(1, "Bills", "Dolphins", 20, 20);
+
+        season.clearWeek(1);
+        season.addGame(1, "Jets", "Patriots", 35, 31);
+
+        assertRecord(season.getRecord("Patriots"), 0, 0, 1, 0, 0);
+        assertRecord(season.getRecord("Jets"), 0, 1, 0, 0, 0);
+        assertRecord(season.getRecord("Bills"), 0, 0, 0, 0, 0);
+        assertRecord(season.getRecord("Dolphins"), 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Counts ties the way records used to be counted, for comparison.
+     */
+    private static int countTiesByScanning(Season season, Team team) {
+        int ties = 0;
+        for (Game game : season.getGames()) {
+            boolean win = game.homeTeam == team && game.homeTeamScore > game.awayTeamScore
+                    || game.awayTeam == team && game.awayTeamScore > game.homeTeamScore;
+            boolean loss = game.homeTeam == team && game.awayTeamScore > game.homeTeamScore
+                    || game.awayTeam == team && game.homeTeamScore > game.awayTeamScore;
+            if (!win && !loss) ties++;
+        }
+        return ties;
+    }
+
+    private static void assertRecord(Record record, int homeWins, int awayWins, int homeLosses, int awayLosses, int ties) {
+        assertEquals(record.toString(), homeWins, record.getHomeWins());
+        assertEquals(record.toString(), awayWins, record.getAwayWins());
+        assertEquals(record.toString(), homeLosses, record.getHomeLosses());
+        assertEquals(record.toString(), awayLosses, record.getAwayLosses());
+        assertEquals(record.toString(), ties, record.getTies());
+    }
+}
@@ -0,0 +1,81 @@
+package footballer.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flights.get("2017/projections", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "body";
+            })));
+            await(started);
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> flights.get("2017/projections", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(100); // Let the other callers reach the flight which is still running
+            release.countDown();
+
+            for (Future<String> result : results) assertEquals("body", result.get(10, TimeUnit.SECONDS));
+            assertEquals(1, computations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Nothing is cached once the flight has finished
+        assertEquals("next", flights.get("2017/projections", () -> "next"));
+    }
+
+    @Test
+    public void failuresAreRethrownAndNotKept() {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("Cannot simulate season!");
+
+        try {
+            flights.get("key", () -> {
+                throw failure;
+            });
+            fail("Expected the failure to be rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+
+        assertEquals("value", flights.get("key", () -> "value"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}